@@ -2,13 +2,14 @@ plugins {
     java
     id("org.springframework.boot") version "3.3.6"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
 version = "0.0.1-SNAPSHOT"
 
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    sourceCompatibility = JavaVersion.VERSION_21
 }
 
 configurations {
@@ -58,12 +59,23 @@ dependencies {
     // HTTP Client (Kakao API 호출)
     implementation("org.springframework.boot:spring-boot-starter-webflux")
 
+    // Resilience (Kakao/Solapi 서킷 브레이커, 벌크헤드)
+    implementation("io.github.resilience4j:resilience4j-spring-boot3:2.2.0")
+    implementation("io.github.resilience4j:resilience4j-reactor:2.2.0")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
     // Swagger/OpenAPI
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.3.0")
 
     // JSON Processing
     implementation("com.fasterxml.jackson.core:jackson-databind")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+
+    // Compression (AMQP 메시지 LZ4 압축)
+    implementation("org.lz4:lz4-java:1.8.0")
 
     // Lombok
     compileOnly("org.projectlombok:lombok")
@@ -113,6 +125,36 @@ tasks.withType<Test> {
     }
 }
 
+// Load tests (@Tag("load")) are excluded from the default test task - run with ./gradlew loadTest
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+
+tasks.register<Test>("loadTest") {
+    description = "Runs load tests comparing platform and virtual thread execution modes."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+    shouldRunAfter(tasks.test)
+}
+
+// Microbenchmarks (src/jmh) - run with ./gradlew jmh
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.add("gc")
+    includes.addAll(providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(emptyList()))
+}
+
 springBoot {
     mainClass.set("com.example.api.ApiApplication")
 }
@@ -0,0 +1,66 @@
+package com.example.api.kakao.client;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solapi 인증 헤더 생성 비교
+ * - legacy: 기존 KakaoApiClient.generateSolapiAuthHeader 구현
+ * - signer: SolapiRequestSigner
+ * ops/sec 는 Throughput, bytes/op 는 gc 프로파일러의 gc.alloc.rate.norm 으로 확인한다.
+ *
+ * ./gradlew jmh -PjmhIncludes=SolapiRequestSignerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class SolapiRequestSignerBenchmark {
+
+    private static final String API_KEY = "NCSAYU7YDBXYORXC";
+    private static final String API_SECRET = "XFQWDH1QQJKQVZLEYQHVJ2ZKEX6RS2EW";
+
+    private SolapiRequestSigner signer;
+
+    @Setup
+    public void setUp() {
+        signer = new SolapiRequestSigner(API_KEY, API_SECRET);
+    }
+
+    @Benchmark
+    public String legacy() throws Exception {
+        String salt = UUID.randomUUID().toString().replaceAll("-", "");
+        String date = ZonedDateTime.now(ZoneId.of("Asia/Seoul"))
+                .format(DateTimeFormatter.ISO_INSTANT);
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(API_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String signature = HexFormat.of().formatHex(
+                mac.doFinal((date + salt).getBytes(StandardCharsets.UTF_8)));
+
+        return String.format("HMAC-SHA256 apiKey=%s, date=%s, salt=%s, signature=%s",
+                API_KEY, date, salt, signature);
+    }
+
+    @Benchmark
+    public String signer() {
+        return signer.authorizationHeader();
+    }
+
+}
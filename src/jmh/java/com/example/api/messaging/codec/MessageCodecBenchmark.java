@@ -0,0 +1,137 @@
+package com.example.api.messaging.codec;
+
+import com.example.api.messaging.dto.EmailMessage;
+import com.example.api.messaging.dto.KakaoMessage;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AMQP 메시지 코덱 비교 (JSON / Smile / CBOR, LZ4 압축 유무)
+ * - kakao-friendtalk: receiverUuids 500건
+ * - kakao-alimtalk: 변수 8개, 버튼 2개
+ * - email: 약 4KB HTML 본문
+ * 직렬화 크기는 serialize 결과의 bodyBytes 보조 카운터로 확인한다.
+ *
+ * ./gradlew jmh -PjmhIncludes=MessageCodecBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessageCodecBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"-1", "512"})
+    private int compressionThreshold;
+
+    @Param({"kakao-friendtalk", "kakao-alimtalk", "email"})
+    private String payload;
+
+    private MessageConverter converter;
+    private Object message;
+    private Message encoded;
+
+    @Setup
+    public void setUp() {
+        converter = MessageCodecs.messageConverter(format, compressionThreshold);
+        message = switch (payload) {
+            case "kakao-friendtalk" -> friendtalk();
+            case "kakao-alimtalk" -> alimtalk();
+            case "email" -> email();
+            default -> throw new IllegalArgumentException(payload);
+        };
+        encoded = converter.toMessage(message, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message serialize(SizeCounter size) {
+        Message result = converter.toMessage(message, new MessageProperties());
+        size.bodyBytes = result.getBody().length;
+        return result;
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return converter.fromMessage(encoded);
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class SizeCounter {
+
+        public long bodyBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bodyBytes = 0;
+        }
+    }
+
+    private static KakaoMessage friendtalk() {
+        List<String> uuids = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            uuids.add("uuid-" + Long.toHexString(0x5f3a_0000_0000L + i * 7919L) + "-kakao-friend");
+        }
+        return KakaoMessage.builder()
+                .messageType("FRIENDTALK")
+                .receiverUuids(uuids)
+                .content("[이벤트] 이번 주 한정 할인 쿠폰이 도착했습니다. 지금 바로 확인해 보세요!")
+                .buttonTitle("쿠폰 받기")
+                .webUrl("https://example.com/events/weekly-coupon?utm_source=kakao")
+                .build();
+    }
+
+    private static KakaoMessage alimtalk() {
+        Map<String, String> variables = new LinkedHashMap<>();
+        variables.put("#{고객명}", "홍길동");
+        variables.put("#{주문번호}", "ORD-20240615-000123");
+        variables.put("#{상품명}", "무선 블루투스 이어폰 외 2건");
+        variables.put("#{결제금액}", "129,000");
+        variables.put("#{결제수단}", "신용카드");
+        variables.put("#{배송지}", "서울특별시 강남구 테헤란로 123");
+        variables.put("#{배송예정일}", "2024-06-18");
+        variables.put("#{고객센터}", "1588-0000");
+        return KakaoMessage.builder()
+                .messageType("ALIMTALK")
+                .recipient("01012345678")
+                .templateCode("ORDER_CONFIRM")
+                .variables(variables)
+                .buttons(List.of(
+                        new KakaoMessage.ButtonDto("WL", "주문 상세", "https://example.com/orders/123", "https://example.com/orders/123"),
+                        new KakaoMessage.ButtonDto("DS", "배송 조회", null, null)))
+                .build();
+    }
+
+    private static EmailMessage email() {
+        StringBuilder content = new StringBuilder("<html><body><h1>주문이 완료되었습니다</h1><table>");
+        for (int i = 0; i < 40; i++) {
+            content.append("<tr><td>상품 ").append(i).append("</td><td>1</td><td>12,900원</td></tr>");
+        }
+        content.append("</table><p>이용해 주셔서 감사합니다.</p></body></html>");
+        return EmailMessage.builder()
+                .recipient("customer@example.com")
+                .subject("[Example] 주문 확인 안내")
+                .content(content.toString())
+                .isHtml(true)
+                .build();
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.example.api.messaging.local;
+
+import com.example.api.messaging.dto.KakaoMessage;
+import com.example.api.messaging.dto.MessageType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 저널 enqueue 지연과 drain 처리량
+ * - enqueue: 생산자 3개가 알림톡 메시지를 슬롯에 직접 직렬화 (가득 차면 빈 슬롯이 생길 때까지 재시도)
+ * - drain: 소비자 1개가 claim → 역직렬화 → release (drained 보조 카운터가 실제 처리 건수)
+ * enqueue 지연 분포는 SampleTime, 처리량은 Throughput 결과로 확인한다.
+ *
+ * ./gradlew jmh -PjmhIncludes=MappedJournalBenchmark
+ */
+@State(Scope.Group)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappedJournalBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MappedJournal.PayloadWriter<Object> jsonWriter =
+            (value, out) -> objectMapper.writeValue(out, value);
+
+    private Path directory;
+    private MappedJournal journal;
+    private KakaoMessage message;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-bench");
+        journal = new MappedJournal(directory.resolve("journal.dat"), 65536, 1024);
+        message = KakaoMessage.builder()
+                .messageType("ALIMTALK")
+                .recipient("01012345678")
+                .templateCode("ORDER_CONFIRM")
+                .variables(Map.of(
+                        "#{고객명}", "홍길동",
+                        "#{주문번호}", "ORD-20240615-000123",
+                        "#{결제금액}", "129,000"))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    @Group("journal")
+    @GroupThreads(3)
+    public long enqueue() throws IOException {
+        long position;
+        while ((position = journal.append(MessageType.KAKAO.ordinal(), 0, message, jsonWriter)) < 0) {
+            Thread.onSpinWait();
+        }
+        return position;
+    }
+
+    @Benchmark
+    @Group("journal")
+    @GroupThreads(1)
+    public Object drain(DrainCounter counter) throws IOException {
+        long position = journal.claim();
+        if (position < 0) {
+            return null;
+        }
+        Object result = objectMapper.readValue(journal.payload(position), KakaoMessage.class);
+        journal.release(position);
+        counter.drained++;
+        return result;
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class DrainCounter {
+
+        public long drained;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            drained = 0;
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.example.api.scheduling;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이밍 휠 등록/만료 비용
+ * pending 개의 예약(최대 24시간 뒤)이 이미 올라가 있는 상태에서 예약 하나를 추가하고 한 tick 진행한다.
+ * 등록 비용이 pending 크기와 무관하게 일정한지 확인한다.
+ *
+ * ./gradlew jmh -PjmhIncludes=TimingWheelBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimingWheelBenchmark {
+
+    private static final long TICK_MILLIS = 100;
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    @Param({"10000", "1000000"})
+    private int pending;
+
+    private TimingWheel<Long> wheel;
+    private long now;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        now = 0;
+        wheel = new TimingWheel<>(TICK_MILLIS, 512, now);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long i = 0; i < pending; i++) {
+            wheel.schedule(i, TICK_MILLIS + random.nextLong(DAY_MILLIS));
+        }
+        wheel.advance(now, id -> { });
+    }
+
+    @Benchmark
+    public void scheduleAndTick(Blackhole blackhole) {
+        wheel.schedule(now, now + TICK_MILLIS + ThreadLocalRandom.current().nextLong(DAY_MILLIS));
+        now += TICK_MILLIS;
+        wheel.advance(now, blackhole::consume);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.example.api.template;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 템플릿 렌더링 비교 (mail-templates/welcome.html)
+ * - format: 기존 방식처럼 매번 String.format 으로 치환
+ * - plan: 미리 컴파일한 TemplatePlan 을 재사용 버퍼에 렌더링
+ * - planNewBuffer: TemplatePlan 을 새 버퍼에 렌더링
+ *
+ * ./gradlew jmh -PjmhIncludes=TemplatePlanBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TemplatePlanBenchmark {
+
+    private static final Map<String, String> VARIABLES = Map.of("name", "홍길동 <hong@example.com>");
+
+    private String formatSource;
+    private TemplatePlan plan;
+    private final StringBuilder buffer = new StringBuilder(8 * 1024);
+
+    @Setup
+    public void setUp() throws IOException {
+        String source;
+        try (InputStream in = getClass().getResourceAsStream("/mail-templates/welcome.html")) {
+            source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        formatSource = source.replace("%", "%%").replace("{{name}}", "%s");
+        plan = TemplatePlan.compile("welcome", source, "{{", "}}", TemplatePlan.Escaping.HTML);
+    }
+
+    @Benchmark
+    public String format() {
+        return String.format(formatSource, VARIABLES.get("name"));
+    }
+
+    @Benchmark
+    public String plan() {
+        buffer.setLength(0);
+        plan.render(VARIABLES, buffer);
+        return buffer.toString();
+    }
+
+    @Benchmark
+    public String planNewBuffer() {
+        return plan.render(VARIABLES);
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.example.api.admission;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * 지연 기반 AIMD 동시성 한도
+ * - 관측된 최소 지연(baseline)의 tolerance 배를 넘거나 포화 신호가 있으면 한도를 backoff 배로 감소
+ *   (TCP 처럼 한 번의 왕복 시간 동안에는 한 번만 감소하여 동시에 끝난 느린 요청들로 한도가 붕괴하지 않게 함)
+ * - 그 외에는 한도가 실제로 쓰이고 있을 때(inFlight >= limit / 2)만 1 / limit 씩 증가 (한 윈도우에 약 +1)
+ * - baseline 은 baseline-window 마다 새로 측정하여 정상 지연이 바뀌어도 따라간다
+ * 한도 갱신은 CAS 로 처리하므로 락이 없다.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final long windowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong baselineNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong windowStartNanos = new AtomicLong(System.nanoTime());
+    private final AtomicLong lastDecreaseNanos = new AtomicLong(System.nanoTime());
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                    double tolerance, double backoffRatio, Duration window) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.windowNanos = window.toNanos();
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(
+                Math.max(minLimit, Math.min(maxLimit, initialLimit))));
+    }
+
+    /**
+     * 한도 안이면 슬롯을 차지하고 true, 한도에 도달했으면 false
+     */
+    public boolean tryAcquire() {
+        int limit = (int) limit();
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * 슬롯 반환 및 한도 조정
+     *
+     * @param latencyNanos 요청 처리 시간
+     * @param overloaded   처리 중 포화 신호가 관측되었는지 여부
+     */
+    public void release(long latencyNanos, boolean overloaded) {
+        int current = inFlight.getAndDecrement();
+
+        long now = System.nanoTime();
+        long windowStart = windowStartNanos.get();
+        if (now - windowStart >= windowNanos && windowStartNanos.compareAndSet(windowStart, now)) {
+            baselineNanos.set(latencyNanos);
+        } else {
+            baselineNanos.accumulateAndGet(latencyNanos, Math::min);
+        }
+
+        if (overloaded || latencyNanos > baselineNanos.get() * tolerance) {
+            long last = lastDecreaseNanos.get();
+            if (now - last >= latencyNanos && lastDecreaseNanos.compareAndSet(last, now)) {
+                update(limit -> Math.max(minLimit, limit * backoffRatio));
+            }
+        } else if (current * 2 >= limit()) {
+            update(limit -> Math.min(maxLimit, limit + 1.0 / limit));
+        }
+    }
+
+    /**
+     * 한도 조정 없이 슬롯만 반환 (오류 응답처럼 지연이 처리 비용을 대표하지 않는 요청)
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public double limit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void update(DoubleUnaryOperator function) {
+        long bits;
+        long next;
+        do {
+            bits = limitBits.get();
+            next = Double.doubleToRawLongBits(function.applyAsDouble(Double.longBitsToDouble(bits)));
+        } while (bits != next && !limitBits.compareAndSet(bits, next));
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.example.api.admission;
+
+import com.example.api.dto.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 라우트별 적응형 동시성 제한 (admission control)
+ * - 라우트(HTTP 메서드 + 매핑 패턴)마다 AdaptiveConcurrencyLimit 을 두고, 한도를 넘는 요청은
+ *   핸들러에 들어가기 전에 429 + Retry-After 로 즉시 거절
+ * - 성공 응답의 처리 시간과 AdmissionSignals 의 포화 신호(Hikari, bulkhead, backlog)로 한도를 조정
+ * - 503/504/429 응답은 하위 자원 포화로 보고 한도를 줄임
+ * 비동기 요청은 최초 dispatch 에서 슬롯을 잡고 async dispatch 가 끝날 때 반환한다.
+ */
+@Component
+@Slf4j
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".PERMIT";
+
+    private final AdmissionSignals signals;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    @Value("${admission.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${admission.min-limit:2}")
+    private int minLimit;
+
+    @Value("${admission.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${admission.latency-tolerance:2.0}")
+    private double latencyTolerance;
+
+    @Value("${admission.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${admission.baseline-window:60s}")
+    private Duration baselineWindow;
+
+    @Value("${admission.retry-after:1s}")
+    private Duration retryAfter;
+
+    public AdmissionControlInterceptor(AdmissionSignals signals, MeterRegistry meterRegistry,
+                                       ObjectMapper objectMapper) {
+        this.signals = signals;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            // async dispatch: 최초 dispatch 에서 이미 슬롯을 잡음
+            return true;
+        }
+
+        Route route = routes.computeIfAbsent(routeKey(request), this::newRoute);
+        if (!route.limit().tryAcquire()) {
+            reject(request, response, route);
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(route, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Permit permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit == null) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+
+        AdaptiveConcurrencyLimit limit = permit.route().limit();
+        int status = response.getStatus();
+        long latency = System.nanoTime() - permit.startedNanos();
+        if (status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status == HttpStatus.GATEWAY_TIMEOUT.value()
+                || status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            limit.release(latency, true);
+        } else if (ex == null && status < 400) {
+            limit.release(latency, signals.overloadReason() != null);
+        } else {
+            limit.release();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Route route)
+            throws IOException {
+        route.rejected().increment();
+        log.debug("Admission rejected {} (limit={}, overload={})",
+                route.key(), (int) route.limit().limit(), signals.overloadReason());
+
+        ErrorResponse body = ErrorResponse.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("TOO_MANY_REQUESTS")
+                .message("Server is at capacity, retry later")
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static String routeKey(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // 매핑되지 않은 경로는 하나의 라우트로 묶어 라우트 수(및 메트릭 태그)를 제한
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmatched");
+    }
+
+    private Route newRoute(String key) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                initialLimit, minLimit, maxLimit, latencyTolerance, backoffRatio, baselineWindow);
+        Gauge.builder("admission.limit", limit, AdaptiveConcurrencyLimit::limit)
+                .tag("route", key)
+                .register(meterRegistry);
+        Gauge.builder("admission.inflight", limit, AdaptiveConcurrencyLimit::inFlight)
+                .tag("route", key)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("admission.rejected")
+                .tag("route", key)
+                .register(meterRegistry);
+        return new Route(key, limit, rejected);
+    }
+
+    private record Route(String key, AdaptiveConcurrencyLimit limit, Counter rejected) {
+    }
+
+    private record Permit(Route route, long startedNanos) {
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.example.api.admission;
+
+import com.example.api.messaging.producer.MessagePublisher;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 제어용 포화 신호
+ * - Hikari 풀: 커넥션 대기 스레드가 있거나 사용률이 pool.max-utilization 이상
+ * - Resilience4j bulkhead: 빈 슬롯이 없는 bulkhead 가 있음
+ * - 메시지 backlog: 발행기들이 보고한 미소비 메시지 수가 queue.max-backlog 이상
+ * 요청마다 조회하지 않도록 sample-interval 마다 한 번 샘플링하고 결과만 공개한다.
+ * 샘플링은 전용 스레드에서 하므로, 공용 @Scheduled 스레드가 outbox relay 의 confirm 대기 등으로 막혀도
+ * (바로 그 포화 상황에서) 신호가 마지막 값에 멈추지 않는다.
+ */
+@Component
+@Slf4j
+public class AdmissionSignals {
+
+    private final HikariDataSource hikariDataSource;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ObjectProvider<MessagePublisher> messagePublishers;
+    private final double maxPoolUtilization;
+    private final long maxBacklog;
+    private final long sampleIntervalMillis;
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "admission-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile String overloadReason;
+    private volatile long backlog;
+
+    public AdmissionSignals(DataSource dataSource,
+                            ObjectProvider<BulkheadRegistry> bulkheadRegistry,
+                            ObjectProvider<MessagePublisher> messagePublishers,
+                            MeterRegistry meterRegistry,
+                            @Value("${admission.pool.max-utilization:0.9}") double maxPoolUtilization,
+                            @Value("${admission.queue.max-backlog:10000}") long maxBacklog,
+                            @Value("${admission.sample-interval:500}") long sampleIntervalMillis) {
+        this.hikariDataSource = unwrap(dataSource);
+        this.bulkheadRegistry = bulkheadRegistry.getIfAvailable();
+        this.messagePublishers = messagePublishers;
+        this.maxPoolUtilization = maxPoolUtilization;
+        this.maxBacklog = maxBacklog;
+        this.sampleIntervalMillis = sampleIntervalMillis;
+
+        Gauge.builder("admission.backlog", this, signals -> signals.backlog)
+                .description("Unconsumed messages reported by the publishers (capped at max-backlog)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 마지막 샘플에서 포화 상태였으면 그 원인, 아니면 null
+     */
+    public String overloadReason() {
+        return overloadReason;
+    }
+
+    @PostConstruct
+    public void start() {
+        sampler.scheduleWithFixedDelay(() -> {
+            try {
+                sample();
+            } catch (RuntimeException e) {
+                log.warn("Failed to sample admission signals", e);
+            }
+        }, 0, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        sampler.shutdownNow();
+    }
+
+    public void sample() {
+        String reason = poolSaturation();
+        if (reason == null) {
+            reason = bulkheadSaturation();
+        }
+        String backlogReason = backlogSaturation();
+        if (reason == null) {
+            reason = backlogReason;
+        }
+
+        if (reason != null && overloadReason == null) {
+            log.warn("Admission control overloaded: {}", reason);
+        } else if (reason == null && overloadReason != null) {
+            log.info("Admission control recovered");
+        }
+        overloadReason = reason;
+    }
+
+    private String poolSaturation() {
+        HikariPoolMXBean pool = hikariDataSource == null ? null : hikariDataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return null;
+        }
+        int waiting = pool.getThreadsAwaitingConnection();
+        if (waiting > 0) {
+            return "hikari: " + waiting + " threads awaiting connection";
+        }
+        double utilization = (double) pool.getActiveConnections() / hikariDataSource.getMaximumPoolSize();
+        return utilization >= maxPoolUtilization
+                ? String.format("hikari: %.0f%% of connections active", utilization * 100)
+                : null;
+    }
+
+    private String bulkheadSaturation() {
+        if (bulkheadRegistry == null) {
+            return null;
+        }
+        for (Bulkhead bulkhead : bulkheadRegistry.getAllBulkheads()) {
+            if (bulkhead.getMetrics().getAvailableConcurrentCalls() == 0) {
+                return "bulkhead " + bulkhead.getName() + " is full";
+            }
+        }
+        return null;
+    }
+
+    private String backlogSaturation() {
+        long deepest = messagePublishers.stream()
+                .mapToLong(this::backlogOf)
+                .max()
+                .orElse(-1);
+        backlog = deepest;
+        return deepest >= maxBacklog ? "message backlog >= " + maxBacklog : null;
+    }
+
+    private long backlogOf(MessagePublisher publisher) {
+        try {
+            return publisher.backlog(maxBacklog);
+        } catch (RuntimeException e) {
+            log.debug("Failed to read message backlog from {}", publisher.getClass().getSimpleName(), e);
+            return -1;
+        }
+    }
+
+    private static HikariDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+}
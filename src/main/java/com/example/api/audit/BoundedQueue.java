@@ -0,0 +1,81 @@
+package com.example.api.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 다중 생산자/단일 소비자 링 버퍼 (Vyukov bounded queue)
+ * 슬롯마다 sequence 를 두어 생산자는 tail CAS 한 번으로 자리를 잡고, 가득 차면 기다리지 않고 false 를 반환한다.
+ * drainTo 는 하나의 스레드에서만 호출해야 한다.
+ */
+public final class BoundedQueue<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public BoundedQueue(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 추가 후 큐에 쌓인 건수(대략)를 반환, 가득 차면 -1
+     */
+    public long offer(E element) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, pos + 1);
+                    return pos + 1 - head.get();
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return -1;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 max 건을 꺼내 target 에 담고 꺼낸 건수를 반환 (단일 소비자)
+     */
+    public int drainTo(List<? super E> target, int max) {
+        long pos = head.get();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (pos & mask);
+            if (sequences.get(index) != pos + 1) {
+                break;
+            }
+            target.add(elements.get(index));
+            elements.lazySet(index, null);
+            sequences.set(index, pos + mask + 1);
+            pos++;
+            drained++;
+        }
+        head.lazySet(pos);
+        return drained;
+    }
+
+    public long size() {
+        return Math.max(0, tail.get() - head.get());
+    }
+
+}
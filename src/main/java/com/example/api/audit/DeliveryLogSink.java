@@ -0,0 +1,321 @@
+package com.example.api.audit;
+
+import com.example.api.entity.EmailLog;
+import com.example.api.entity.KakaoMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * 발송 로그 write-behind 기록기 (kakao_message_log, email_log)
+ * - 발송 경로에서는 lock-free 링 버퍼에 넣기만 하므로 DB 왕복이 없음
+ * - 전용 flush 스레드가 batch-size 건이 쌓이거나 flush-interval 이 지나면 COPY 로 한 번에 기록
+ *   (커넥션 풀을 점유하지 않도록 별도 커넥션 사용)
+ * - 버퍼가 가득 차면 발송을 막지 않고 해당 로그를 버리며 delivery.log.dropped 로 집계
+ * - 값은 컬럼 길이에 맞게 자르고, 그래도 COPY 가 데이터 오류로 실패하면 배치를 나누어 다시 기록하여
+ *   문제가 되는 행만 버림 (delivery.log.failed)
+ */
+@Component
+@Slf4j
+public class DeliveryLogSink {
+
+    private static final String KAKAO_TABLE = "kakao_message_log";
+    private static final String EMAIL_TABLE = "email_log";
+    private static final String KAKAO_COPY = "COPY " + KAKAO_TABLE
+            + " (user_id, message_type, recipient_phone, template_code, subject, content, button_data,"
+            + " status, error_code, error_message, request_id, sent_at, created_at) FROM STDIN WITH (FORMAT csv)";
+    private static final String EMAIL_COPY = "COPY " + EMAIL_TABLE
+            + " (user_id, recipient, subject, status, error_message, sent_at) FROM STDIN WITH (FORMAT csv)";
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+    private static final String DATA_EXCEPTION = "22";
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final BoundedQueue<KakaoMessage> kakaoLogs;
+    private final BoundedQueue<EmailLog> emailLogs;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Counter kakaoDropped;
+    private final Counter emailDropped;
+    private final Counter kakaoWritten;
+    private final Counter emailWritten;
+    private final Counter writeFailed;
+    private final StringBuilder csv = new StringBuilder(8192);
+
+    private volatile boolean running = true;
+    private Thread flusher;
+    private Connection connection;
+    private long lastConnectFailure;
+
+    public DeliveryLogSink(DataSourceProperties dataSourceProperties,
+                           MeterRegistry meterRegistry,
+                           @Value("${delivery-log.buffer-size:65536}") int bufferSize,
+                           @Value("${delivery-log.batch-size:1000}") int batchSize,
+                           @Value("${delivery-log.flush-interval:200ms}") Duration flushInterval) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.kakaoLogs = new BoundedQueue<>(bufferSize);
+        this.emailLogs = new BoundedQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+
+        this.kakaoDropped = counter(meterRegistry, "delivery.log.dropped", KAKAO_TABLE);
+        this.emailDropped = counter(meterRegistry, "delivery.log.dropped", EMAIL_TABLE);
+        this.kakaoWritten = counter(meterRegistry, "delivery.log.written", KAKAO_TABLE);
+        this.emailWritten = counter(meterRegistry, "delivery.log.written", EMAIL_TABLE);
+        this.writeFailed = Counter.builder("delivery.log.failed")
+                .description("Delivery log rows lost because the COPY failed")
+                .register(meterRegistry);
+        Gauge.builder("delivery.log.pending", kakaoLogs, BoundedQueue::size)
+                .tag("table", KAKAO_TABLE).register(meterRegistry);
+        Gauge.builder("delivery.log.pending", emailLogs, BoundedQueue::size)
+                .tag("table", EMAIL_TABLE).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = new Thread(this::run, "delivery-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(Duration.ofSeconds(10).toMillis());
+    }
+
+    /**
+     * 카카오 발송 로그 기록 (비차단)
+     */
+    public void recordKakao(String recipient, String messageType, String templateCode, String content,
+                            String status, String errorCode, String requestId) {
+        LocalDateTime now = LocalDateTime.now();
+        KakaoMessage entry = KakaoMessage.builder()
+                .messageType(messageType)
+                .recipientPhone(recipient)
+                .templateCode(templateCode)
+                .content(content)
+                .status(status)
+                .errorCode(errorCode)
+                .requestId(requestId)
+                .sentAt("SUCCESS".equals(status) ? now : null)
+                .createdAt(now)
+                .build();
+        enqueue(kakaoLogs, entry, kakaoDropped);
+    }
+
+    /**
+     * 이메일 발송 로그 기록 (비차단)
+     */
+    public void recordEmail(String recipient, String subject, String status, String errorMessage) {
+        EmailLog entry = EmailLog.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .status(status)
+                .errorMessage(errorMessage)
+                .sentAt(LocalDateTime.now())
+                .build();
+        enqueue(emailLogs, entry, emailDropped);
+    }
+
+    private <E> void enqueue(BoundedQueue<E> queue, E entry, Counter dropped) {
+        long pending = queue.offer(entry);
+        if (pending < 0) {
+            dropped.increment();
+        } else if (pending % batchSize == 0) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    private void run() {
+        List<KakaoMessage> kakaoBatch = new ArrayList<>(batchSize);
+        List<EmailLog> emailBatch = new ArrayList<>(batchSize);
+        while (running) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            flush(kakaoLogs, kakaoBatch, KAKAO_COPY, this::appendKakao, kakaoWritten);
+            flush(emailLogs, emailBatch, EMAIL_COPY, this::appendEmail, emailWritten);
+        }
+        // 종료 시 남은 로그를 모두 기록
+        flush(kakaoLogs, kakaoBatch, KAKAO_COPY, this::appendKakao, kakaoWritten);
+        flush(emailLogs, emailBatch, EMAIL_COPY, this::appendEmail, emailWritten);
+        closeConnection();
+    }
+
+    private <E> void flush(BoundedQueue<E> queue, List<E> batch, String copySql,
+                           BiConsumer<StringBuilder, E> appender, Counter written) {
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                write(batch, copySql, appender, written);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * COPY 는 한 행이라도 거부되면 전체가 롤백되므로, 데이터 오류면 반으로 나누어 다시 기록한다.
+     * 연결 오류는 나누어도 실패하므로 배치를 버리고 연결을 닫는다.
+     */
+    private <E> void write(List<E> rows, String copySql, BiConsumer<StringBuilder, E> appender, Counter written) {
+        csv.setLength(0);
+        for (E row : rows) {
+            appender.accept(csv, row);
+        }
+        try {
+            copy(copySql);
+            written.increment(rows.size());
+        } catch (SQLException e) {
+            if (!isDataError(e)) {
+                discard(rows, e);
+            } else if (rows.size() == 1) {
+                log.warn("Dropping delivery log row rejected by database: {}", e.getMessage());
+                writeFailed.increment();
+            } else {
+                int half = rows.size() / 2;
+                write(rows.subList(0, half), copySql, appender, written);
+                write(rows.subList(half, rows.size()), copySql, appender, written);
+            }
+        } catch (IOException e) {
+            discard(rows, e);
+        }
+    }
+
+    private void discard(List<?> rows, Exception e) {
+        log.warn("Failed to write {} delivery log rows: {}", rows.size(), e.getMessage());
+        writeFailed.increment(rows.size());
+        closeConnection();
+    }
+
+    private static boolean isDataError(SQLException e) {
+        String sqlState = e.getSQLState();
+        return sqlState != null
+                && (sqlState.startsWith(DATA_EXCEPTION) || sqlState.startsWith(INTEGRITY_CONSTRAINT_VIOLATION));
+    }
+
+    private void copy(String copySql) throws SQLException, IOException {
+        CopyManager copyManager = connection().unwrap(PGConnection.class).getCopyAPI();
+        copyManager.copyIn(copySql, new StringReader(csv.toString()));
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection != null) {
+            return connection;
+        }
+        // DB 장애 중에는 매 flush 마다 연결을 시도하지 않음
+        if (System.currentTimeMillis() - lastConnectFailure < RECONNECT_DELAY_MILLIS) {
+            throw new SQLException("Delivery log connection is unavailable");
+        }
+        try {
+            connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword());
+            connection.setAutoCommit(true);
+            return connection;
+        } catch (SQLException e) {
+            lastConnectFailure = System.currentTimeMillis();
+            throw e;
+        }
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close delivery log connection", e);
+        }
+        connection = null;
+    }
+
+    /**
+     * 문자열 컬럼은 schema.sql 의 VARCHAR 길이에 맞게 자르고, NOT NULL 컬럼의 null 은 빈 문자열로 기록
+     * (recipient_phone 에는 친구톡 UUID 나 공급자 응답의 수신번호도 들어옴)
+     */
+    private void appendKakao(StringBuilder out, KakaoMessage entry) {
+        appendValue(out, entry.getUserId()).append(',');
+        appendValue(out, required(truncate(entry.getMessageType(), 20))).append(',');
+        appendValue(out, required(truncate(entry.getRecipientPhone(), 20))).append(',');
+        appendValue(out, truncate(entry.getTemplateCode(), 50)).append(',');
+        appendValue(out, truncate(entry.getSubject(), 200)).append(',');
+        appendValue(out, entry.getContent()).append(',');
+        appendValue(out, entry.getButtonData()).append(',');
+        appendValue(out, truncate(entry.getStatus(), 20)).append(',');
+        appendValue(out, truncate(entry.getErrorCode(), 50)).append(',');
+        appendValue(out, entry.getErrorMessage()).append(',');
+        appendValue(out, truncate(entry.getRequestId(), 100)).append(',');
+        appendValue(out, entry.getSentAt()).append(',');
+        appendValue(out, entry.getCreatedAt()).append('\n');
+    }
+
+    private void appendEmail(StringBuilder out, EmailLog entry) {
+        appendValue(out, entry.getUserId()).append(',');
+        appendValue(out, required(truncate(entry.getRecipient(), 100))).append(',');
+        appendValue(out, truncate(entry.getSubject(), 200)).append(',');
+        appendValue(out, truncate(entry.getStatus(), 20)).append(',');
+        appendValue(out, entry.getErrorMessage()).append(',');
+        appendValue(out, entry.getSentAt()).append('\n');
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        // 서로게이트 쌍 중간에서 자르지 않음
+        int end = Character.isHighSurrogate(value.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return value.substring(0, end);
+    }
+
+    private static String required(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * CSV 값 기록: null 은 빈 값(따옴표 없음), 나머지는 따옴표로 감싸고 내부 따옴표는 두 번 씀
+     */
+    private static StringBuilder appendValue(StringBuilder out, Object value) {
+        if (value == null) {
+            return out;
+        }
+        String text = value.toString();
+        out.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        return out.append('"');
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String table) {
+        return Counter.builder(name)
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+
+}
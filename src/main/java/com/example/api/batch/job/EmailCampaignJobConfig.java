@@ -0,0 +1,123 @@
+package com.example.api.batch.job;
+
+import com.example.api.batch.listener.JobCompletionListener;
+import com.example.api.batch.processor.CampaignEmailProcessor;
+import com.example.api.batch.reader.CampaignRecipientReader;
+import com.example.api.batch.writer.CampaignEmailWriter;
+import com.example.api.entity.User;
+import com.example.api.mail.template.MailTemplateRegistry;
+import com.example.api.mapper.UserMapper;
+import com.example.api.messaging.dto.EmailMessage;
+import com.example.api.ratelimit.TokenBucket;
+import com.example.api.service.EmailService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+
+/**
+ * 대량 메일 캠페인 Job
+ * - reader: users 를 keyset 페이지로 스트리밍 (마지막 id 를 체크포인트로 저장)
+ * - processor: 템플릿 plan 을 재사용하여 수신자 슬롯만 렌더링
+ * - writer: 속도 제한 후 청크를 풀링된 SMTP 세션으로 일괄 발송
+ * 실패한 실행을 같은 JobParameters 로 다시 실행하면 마지막 커밋 청크 다음부터 이어서 발송한다.
+ * (청크 발송 후 커밋 전에 중단되면 해당 청크는 재발송될 수 있음)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class EmailCampaignJobConfig {
+
+    public static final String JOB_NAME = "emailCampaignJob";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JobCompletionListener jobCompletionListener;
+    private final ObjectMapper objectMapper;
+
+    @Value("${campaign.email.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${campaign.email.page-size:500}")
+    private int pageSize;
+
+    @Bean
+    public Job emailCampaignJob(Step emailCampaignStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .listener(jobCompletionListener)
+                .start(emailCampaignStep)
+                .build();
+    }
+
+    @Bean
+    public Step emailCampaignStep(CampaignRecipientReader campaignRecipientReader,
+                                  CampaignEmailProcessor campaignEmailProcessor,
+                                  CampaignEmailWriter campaignEmailWriter) {
+        return new StepBuilder("emailCampaignStep", jobRepository)
+                .<User, EmailMessage>chunk(chunkSize, transactionManager)
+                .reader(campaignRecipientReader)
+                .processor(campaignEmailProcessor)
+                .writer(campaignEmailWriter)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public CampaignRecipientReader campaignRecipientReader(
+            UserMapper userMapper,
+            @Value("#{jobParameters['status']}") String status) {
+        return new CampaignRecipientReader(userMapper, status, pageSize);
+    }
+
+    @Bean
+    @StepScope
+    public CampaignEmailProcessor campaignEmailProcessor(
+            MailTemplateRegistry mailTemplateRegistry,
+            @Value("#{jobParameters['template']}") String template,
+            @Value("#{jobParameters['subject']}") String subject,
+            @Value("#{jobParameters['variables']}") String variables) {
+        return new CampaignEmailProcessor(mailTemplateRegistry, template, subject, parseVariables(variables));
+    }
+
+    @Bean
+    @StepScope
+    public CampaignEmailWriter campaignEmailWriter(
+            EmailService emailService,
+            TokenBucket campaignEmailRateLimiter,
+            @Value("#{stepExecution}") StepExecution stepExecution) {
+        return new CampaignEmailWriter(emailService, campaignEmailRateLimiter, stepExecution);
+    }
+
+    /**
+     * 동시에 실행되는 캠페인이 함께 사용하는 노드 단위 발송 속도 제한
+     */
+    @Bean
+    public TokenBucket campaignEmailRateLimiter(
+            @Value("${campaign.email.rate-per-second:20}") double ratePerSecond) {
+        return new TokenBucket(ratePerSecond, chunkSize);
+    }
+
+    private Map<String, String> parseVariables(String variables) {
+        if (variables == null || variables.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(variables, new TypeReference<>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid campaign variables", e);
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.example.api.batch.processor;
+
+import com.example.api.entity.User;
+import com.example.api.mail.template.MailTemplateRegistry;
+import com.example.api.messaging.dto.EmailMessage;
+import com.example.api.template.TemplatePlan;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 수신자별 캠페인 메일 렌더링
+ * 본문 템플릿과 제목은 미리 컴파일된 plan 을 재사용하고, 수신자 슬롯(name, username, email)만 치환한다.
+ * 이메일이 없는 사용자는 건너뜀
+ */
+public class CampaignEmailProcessor implements ItemProcessor<User, EmailMessage> {
+
+    private final MailTemplateRegistry mailTemplateRegistry;
+    private final String template;
+    private final TemplatePlan subject;
+    private final Map<String, String> campaignVariables;
+
+    public CampaignEmailProcessor(MailTemplateRegistry mailTemplateRegistry, String template,
+                                  String subject, Map<String, String> campaignVariables) {
+        this.mailTemplateRegistry = mailTemplateRegistry;
+        this.template = template;
+        this.subject = TemplatePlan.compile("subject", subject, "{{", "}}", TemplatePlan.Escaping.NONE);
+        this.campaignVariables = campaignVariables;
+    }
+
+    @Override
+    public EmailMessage process(User user) {
+        if (user.getEmail() == null || user.getEmail().isBlank()) {
+            return null;
+        }
+
+        Map<String, String> variables = new HashMap<>(campaignVariables);
+        variables.put("name", user.getName() != null ? user.getName() : user.getUsername());
+        variables.put("username", user.getUsername());
+        variables.put("email", user.getEmail());
+
+        return EmailMessage.builder()
+                .recipient(user.getEmail())
+                .subject(subject.render(variables))
+                .content(mailTemplateRegistry.render(template, variables))
+                .isHtml(true)
+                .build();
+    }
+
+}
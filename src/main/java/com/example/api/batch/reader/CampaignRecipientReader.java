@@ -0,0 +1,67 @@
+package com.example.api.batch.reader;
+
+import com.example.api.entity.User;
+import com.example.api.mapper.UserMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 캠페인 수신자 keyset 리더
+ * - users 를 (status, id) 인덱스로 page-size 건씩 읽어 전체를 메모리에 올리지 않음
+ * - 마지막으로 넘겨준 id 를 ExecutionContext 에 저장하므로 재시작 시 마지막 커밋 청크 다음부터 읽음
+ */
+@Slf4j
+public class CampaignRecipientReader implements ItemStreamReader<User> {
+
+    private static final String LAST_ID_KEY = "campaign.recipient.lastId";
+
+    private final UserMapper userMapper;
+    private final String status;
+    private final int pageSize;
+
+    private long lastId;
+    private Iterator<User> page = List.<User>of().iterator();
+    private boolean exhausted;
+
+    public CampaignRecipientReader(UserMapper userMapper, String status, int pageSize) {
+        this.userMapper = userMapper;
+        this.status = status;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        lastId = executionContext.getLong(LAST_ID_KEY, 0L);
+        if (lastId > 0) {
+            log.info("Resuming campaign recipients after user id {}", lastId);
+        }
+    }
+
+    @Override
+    public User read() {
+        if (!page.hasNext()) {
+            if (exhausted) {
+                return null;
+            }
+            List<User> users = userMapper.findByStatusAfterId(status, lastId, pageSize);
+            exhausted = users.size() < pageSize;
+            page = users.iterator();
+            if (!page.hasNext()) {
+                return null;
+            }
+        }
+        User user = page.next();
+        lastId = user.getId();
+        return user;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(LAST_ID_KEY, lastId);
+    }
+
+}
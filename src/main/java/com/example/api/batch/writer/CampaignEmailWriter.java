@@ -0,0 +1,56 @@
+package com.example.api.batch.writer;
+
+import com.example.api.messaging.dto.EmailMessage;
+import com.example.api.ratelimit.TokenBucket;
+import com.example.api.service.EmailService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캠페인 메일 청크 발송
+ * - 발송 전 공유 토큰 버킷에서 청크 크기만큼 예약하여 노드 전체 발송 속도를 제한
+ * - 청크 단위로 EmailService.sendBatch 를 호출하여 하나의 풀링된 SMTP 세션으로 발송
+ * - 개별 수신자 실패는 청크를 실패시키지 않고 건수만 집계 (재시도 시 성공한 수신자에게 중복 발송 방지)
+ */
+@Slf4j
+public class CampaignEmailWriter implements ItemWriter<EmailMessage> {
+
+    public static final String FAILED_COUNT_KEY = "campaign.failedCount";
+
+    private final EmailService emailService;
+    private final TokenBucket tokenBucket;
+    private final StepExecution stepExecution;
+
+    public CampaignEmailWriter(EmailService emailService, TokenBucket tokenBucket, StepExecution stepExecution) {
+        this.emailService = emailService;
+        this.tokenBucket = tokenBucket;
+        this.stepExecution = stepExecution;
+    }
+
+    @Override
+    public void write(Chunk<? extends EmailMessage> chunk) throws InterruptedException {
+        List<EmailMessage> messages = new ArrayList<>(chunk.getItems());
+
+        long waitNanos = tokenBucket.reserve(messages.size(), Long.MAX_VALUE);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+
+        Map<EmailMessage, Exception> failures = emailService.sendBatch(messages);
+        if (!failures.isEmpty()) {
+            failures.forEach((message, error) ->
+                    log.warn("Campaign email to {} failed: {}", message.getRecipient(), error.getMessage()));
+            ExecutionContext context = stepExecution.getExecutionContext();
+            context.putLong(FAILED_COUNT_KEY, context.getLong(FAILED_COUNT_KEY, 0L) + failures.size());
+        }
+    }
+
+}
@@ -14,6 +14,7 @@ import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -28,22 +29,71 @@ public class KakaoConfig {
     @Value("${kakao.api.timeout}")
     private int timeout;
 
+    @Value("${kakao.bizmessage.base-url}")
+    private String bizMessageBaseUrl;
+
+    @Value("${kakao.bizmessage.pool.max-connections:100}")
+    private int bizMessageMaxConnections;
+
+    @Value("${kakao.bizmessage.pool.pending-acquire-max-count:1000}")
+    private int bizMessagePendingAcquireMaxCount;
+
+    @Value("${kakao.bizmessage.pool.max-idle-time:30s}")
+    private Duration bizMessageMaxIdleTime;
+
+    @Value("${kakao.bizmessage.pool.max-life-time:5m}")
+    private Duration bizMessageMaxLifeTime;
+
     @Bean
     public WebClient kakaoWebClient() {
-        HttpClient httpClient = HttpClient.create()
+        return buildWebClient(baseUrl, HttpClient.create(), "Kakao");
+    }
+
+    /**
+     * Solapi 커넥션 풀 (종료 시 풀의 커넥션을 닫도록 빈으로 관리)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider bizMessageConnectionProvider() {
+        return ConnectionProvider.builder("solapi")
+                .maxConnections(bizMessageMaxConnections)
+                .pendingAcquireMaxCount(bizMessagePendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(timeout))
+                .maxIdleTime(bizMessageMaxIdleTime)
+                .maxLifeTime(bizMessageMaxLifeTime)
+                .evictInBackground(Duration.ofSeconds(30))
+                .build();
+    }
+
+    /**
+     * Solapi(알림톡 대행사) 전용 WebClient
+     * - 요청마다 WebClient를 생성하지 않도록 커넥션 풀을 공유
+     * - keep-alive 커넥션을 재사용하여 TLS 핸드셰이크 비용 제거
+     */
+    @Bean
+    public WebClient bizMessageWebClient(ConnectionProvider bizMessageConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(bizMessageConnectionProvider)
+                .keepAlive(true);
+
+        return buildWebClient(bizMessageBaseUrl, httpClient, "Solapi");
+    }
+
+    private WebClient buildWebClient(String url, HttpClient httpClient, String name) {
+        HttpClient configured = httpClient
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeout)
+                .option(ChannelOption.SO_KEEPALIVE, true)
                 .responseTimeout(Duration.ofMillis(timeout))
                 .doOnConnected(conn ->
                         conn.addHandlerLast(new ReadTimeoutHandler(timeout, TimeUnit.MILLISECONDS))
                                 .addHandlerLast(new WriteTimeoutHandler(timeout, TimeUnit.MILLISECONDS)));
 
         return WebClient.builder()
-                .baseUrl(baseUrl)
+                .baseUrl(url)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .clientConnector(new ReactorClientHttpConnector(configured))
                 .filter(ExchangeFilterFunction.ofRequestProcessor(
                         clientRequest -> {
-                            log.debug("Kakao API Request: {} {}",
+                            log.debug("{} API Request: {} {}",
+                                    name,
                                     clientRequest.method(),
                                     clientRequest.url());
                             return Mono.just(clientRequest);
@@ -51,7 +101,8 @@ public class KakaoConfig {
                 ))
                 .filter(ExchangeFilterFunction.ofResponseProcessor(
                         clientResponse -> {
-                            log.debug("Kakao API Response: {}",
+                            log.debug("{} API Response: {}",
+                                    name,
                                     clientResponse.statusCode());
                             return Mono.just(clientResponse);
                         }
@@ -0,0 +1,40 @@
+package com.example.api.config;
+
+import com.example.api.messaging.local.IdleWorkers;
+import com.example.api.messaging.local.MappedJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 단일 노드용 로컬 메시지 전송 (messaging.transport=local)
+ * 메모리 매핑 저널 파일 크기 = capacity * slot-size (기본 4096 * 16KB = 64MB)
+ */
+@Configuration
+@ConditionalOnProperty(name = "messaging.transport", havingValue = "local")
+public class LocalMessagingConfig {
+
+    @Value("${messaging.local.journal-path:data/message-journal.dat}")
+    private String journalPath;
+
+    @Value("${messaging.local.capacity:4096}")
+    private int capacity;
+
+    @Value("${messaging.local.slot-size:16384}")
+    private int slotSize;
+
+    @Bean(destroyMethod = "close")
+    public MappedJournal messageJournal() throws IOException {
+        return new MappedJournal(Path.of(journalPath), capacity, slotSize);
+    }
+
+    @Bean
+    public IdleWorkers idleWorkers() {
+        return new IdleWorkers();
+    }
+
+}
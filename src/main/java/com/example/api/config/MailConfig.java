@@ -1,14 +1,17 @@
 package com.example.api.config;
 
+import com.example.api.mail.PooledJavaMailSender;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 
+import java.time.Duration;
 import java.util.Properties;
 
 @Configuration
+@Slf4j
 public class MailConfig {
 
     @Value("${spring.mail.host}")
@@ -23,9 +26,32 @@ public class MailConfig {
     @Value("${spring.mail.password}")
     private String password;
 
+    @Value("${mail.pool.size:4}")
+    private int poolSize;
+
+    @Value("${mail.pool.acquire-timeout:10s}")
+    private Duration acquireTimeout;
+
+    @Value("${mail.pool.max-idle:60s}")
+    private Duration maxIdle;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 인증된 SMTP 커넥션을 pool.size 개까지 유지하여 재사용
+     * Jakarta Mail 의 SMTPTransport 는 synchronized 안에서 소켓 I/O 를 하므로 가상 스레드가 발송 중에는
+     * carrier 스레드를 점유(pinning)한다. 동시 발송 수는 pool.size 로 제한되므로 carrier 수보다 작게 유지한다.
+     */
     @Bean
     public JavaMailSender javaMailSender() {
-        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        int carriers = Runtime.getRuntime().availableProcessors();
+        if (virtualThreads && poolSize >= carriers) {
+            log.warn("mail.pool.size={} is not below the {} virtual thread carriers; "
+                    + "concurrent SMTP sends can pin every carrier", poolSize, carriers);
+        }
+
+        PooledJavaMailSender mailSender = new PooledJavaMailSender(poolSize, acquireTimeout, maxIdle);
         mailSender.setHost(host);
         mailSender.setPort(port);
         mailSender.setUsername(username);
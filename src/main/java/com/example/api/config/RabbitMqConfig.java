@@ -1,19 +1,29 @@
 package com.example.api.config;
 
+import com.example.api.messaging.codec.MessageCodecs;
 import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 @ConditionalOnClass(RabbitTemplate.class)
@@ -42,6 +52,33 @@ public class RabbitMqConfig {
     @Value("${rabbitmq.routing-key.kakao}")
     private String kakaoRoutingKey;
 
+    @Value("${rabbitmq.kakao.inflight-window:50}")
+    private int kakaoInflightWindow;
+
+    @Value("${rabbitmq.kakao.batch.size:200}")
+    private int kakaoBatchSize;
+
+    @Value("${rabbitmq.kakao.batch.receive-timeout:500}")
+    private long kakaoBatchReceiveTimeout;
+
+    @Value("${rabbitmq.email.batch.size:50}")
+    private int emailBatchSize;
+
+    @Value("${rabbitmq.email.batch.receive-timeout:200}")
+    private long emailBatchReceiveTimeout;
+
+    @Value("${rabbitmq.codec.format:json}")
+    private String codecFormat;
+
+    @Value("${rabbitmq.codec.compression-threshold:-1}")
+    private int compressionThreshold;
+
+    @Value("${rabbitmq.retry.delays:10s,1m,10m}")
+    private List<Duration> retryDelays;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public Queue emailQueue() {
         return new Queue(emailQueue, true);
@@ -86,9 +123,117 @@ public class RabbitMqConfig {
                 .with(kakaoRoutingKey);
     }
 
+    /**
+     * 재시도 대기 큐와 parking 큐
+     * - {queue}.retry.{n}: TTL 만료 시 원래 작업 큐로 dead-letter 되는 지연 큐 (단계별 대기 시간)
+     * - {queue}.parking: 재시도 불가 또는 재시도 소진 메시지 보관
+     * 대기는 브로커의 TTL 이 처리하므로 consumer 스레드를 점유하지 않는다.
+     */
+    @Bean
+    public Declarables retryQueues() {
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.addAll(retryQueuesFor(emailQueue, emailRoutingKey));
+        declarables.addAll(retryQueuesFor(kakaoQueue, kakaoRoutingKey));
+        return new Declarables(declarables);
+    }
+
+    private List<Declarable> retryQueuesFor(String queue, String routingKey) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (int tier = 0; tier < retryDelays.size(); tier++) {
+            declarables.add(QueueBuilder.durable(retryQueueName(queue, tier))
+                    .ttl((int) retryDelays.get(tier).toMillis())
+                    .deadLetterExchange(exchange)
+                    .deadLetterRoutingKey(routingKey)
+                    .build());
+        }
+        declarables.add(QueueBuilder.durable(parkingQueueName(queue)).build());
+        return declarables;
+    }
+
+    public static String retryQueueName(String queue, int tier) {
+        return queue + ".retry." + tier;
+    }
+
+    public static String parkingQueueName(String queue) {
+        return queue + ".parking";
+    }
+
     @Bean
     public MessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+        return MessageCodecs.messageConverter(codecFormat, compressionThreshold);
+    }
+
+    /**
+     * 카카오 큐 전용 리스너 컨테이너
+     * - MANUAL ack: 리스너가 반환한 Mono 가 완료된 뒤에 ack/nack
+     * - 단일 consumer + prefetch = 동시에 처리 중인 발송 수의 상한
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory kakaoListenerContainerFactory(
+            ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setPrefetchCount(kakaoInflightWindow);
+        applyExecutionMode(factory);
+        return factory;
+    }
+
+    /**
+     * 카카오 큐 배치 리스너 컨테이너
+     * - batch.size 건이 모이거나 batch.receive-timeout(ms) 동안 새 메시지가 없으면 List 로 전달
+     * - MANUAL ack: 다건 발송 결과에 따라 delivery 단위로 ack
+     * - prefetch 는 배치가 가득 찰 수 있도록 batch.size 이상으로 유지
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory kakaoBatchListenerContainerFactory(
+            ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(kakaoBatchSize);
+        factory.setReceiveTimeout(kakaoBatchReceiveTimeout);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setPrefetchCount(Math.max(kakaoInflightWindow, kakaoBatchSize));
+        applyExecutionMode(factory);
+        return factory;
+    }
+
+    /**
+     * 이메일 큐 배치 리스너 컨테이너
+     * - batch.size 건이 모이거나 batch.receive-timeout(ms) 동안 새 메시지가 없으면 List 로 전달
+     * - MANUAL ack: 리스너가 delivery 단위로 ack 하고, 실패한 메시지는 재시도 큐로 재발행한 뒤 ack
+     *   (재발행 실패 시 해당 delivery 만 requeue 하여 배치 전체가 다시 발송되지 않게 함)
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory emailBatchListenerContainerFactory(
+            ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(emailBatchSize);
+        factory.setReceiveTimeout(emailBatchReceiveTimeout);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setPrefetchCount(emailBatchSize);
+        applyExecutionMode(factory);
+        return factory;
+    }
+
+    /**
+     * spring.threads.virtual.enabled=true 이면 consumer 를 가상 스레드에서 실행
+     * (직접 생성한 factory 는 Boot 의 configurer 를 거치지 않으므로 명시적으로 지정)
+     */
+    private void applyExecutionMode(SimpleRabbitListenerContainerFactory factory) {
+        if (virtualThreads) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor("rabbit-"));
+        }
     }
 
     @Bean
@@ -1,13 +1,26 @@
 package com.example.api.config;
 
+import com.example.api.admission.AdmissionControlInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
+    @Value("${admission.enabled:true}")
+    private boolean admissionEnabled;
+
+    @Value("${admission.path-patterns:/api/notifications/**}")
+    private String[] admissionPathPatterns;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -17,6 +30,17 @@ public class WebConfig implements WebMvcConfigurer {
                 .maxAge(3600);
     }
 
+    /**
+     * 지정한 경로에 라우트별 적응형 동시성 제한 적용 (한도 초과 시 429)
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (admissionEnabled) {
+            registry.addInterceptor(admissionControlInterceptor)
+                    .addPathPatterns(admissionPathPatterns);
+        }
+    }
+
     @Override
     public void addViewControllers(ViewControllerRegistry registry) {
         // 루트 경로(/)를 Swagger UI로 리디렉션
@@ -0,0 +1,49 @@
+package com.example.api.controller;
+
+import com.example.api.dto.request.CampaignRequest;
+import com.example.api.service.CampaignService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/campaigns")
+@RequiredArgsConstructor
+public class CampaignController {
+
+    private final CampaignService campaignService;
+
+    /**
+     * 대량 메일 캠페인 시작 (비동기, 실행 id 반환)
+     */
+    @PostMapping("/email")
+    public ResponseEntity<Map<String, Object>> startEmailCampaign(
+            @Valid @RequestBody CampaignRequest request) {
+        long executionId = campaignService.start(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(Map.of("executionId", executionId));
+    }
+
+    @GetMapping("/{executionId}")
+    public ResponseEntity<Map<String, Object>> getCampaignStatus(@PathVariable long executionId) {
+        return ResponseEntity.ok(campaignService.getStatus(executionId));
+    }
+
+    @PostMapping("/{executionId}/restart")
+    public ResponseEntity<Map<String, Object>> restartCampaign(@PathVariable long executionId) {
+        long restarted = campaignService.restart(executionId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(Map.of("executionId", restarted));
+    }
+
+    @PostMapping("/{executionId}/stop")
+    public ResponseEntity<Void> stopCampaign(@PathVariable long executionId) {
+        campaignService.stop(executionId);
+        return ResponseEntity.accepted().build();
+    }
+
+}
@@ -1,19 +1,36 @@
 package com.example.api.controller;
 
+import com.example.api.dto.request.EmailRequest;
 import com.example.api.dto.request.KakaoMessageRequest;
+import com.example.api.entity.ScheduledNotification;
+import com.example.api.exception.CustomException;
+import com.example.api.kakao.bulk.BulkAlimtalkSender;
+import com.example.api.kakao.bulk.BulkProgress;
+import com.example.api.kakao.dto.AlimtalkBatchResponse;
 import com.example.api.kakao.dto.AlimtalkRequest;
+import com.example.api.kakao.dto.FriendtalkResult;
 import com.example.api.kakao.dto.KakaoResponse;
+import com.example.api.scheduling.NotificationScheduler;
 import com.example.api.service.EmailService;
 import com.example.api.service.KakaoService;
+import com.example.api.service.MultiChannelDispatcher;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -24,6 +41,9 @@ public class NotificationController {
 
     private final KakaoService kakaoService;
     private final EmailService emailService;
+    private final BulkAlimtalkSender bulkAlimtalkSender;
+    private final NotificationScheduler notificationScheduler;
+    private final MultiChannelDispatcher multiChannelDispatcher;
 
     /**
      * 알림톡 발송
@@ -56,6 +76,9 @@ public class NotificationController {
                     "success", true,
                     "requestId", response.getRequestId()
             ));
+        } catch (CustomException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .body(Map.of("error", e.getMessage(), "errorCode", e.getErrorCode()));
         } catch (Exception e) {
             log.error("Failed to send alimtalk", e);
             return ResponseEntity.internalServerError()
@@ -63,6 +86,89 @@ public class NotificationController {
         }
     }
 
+    /**
+     * 알림톡 대량 발송
+     */
+    @PostMapping("/kakao/alimtalk/batch")
+    public ResponseEntity<?> sendAlimtalkBatch(
+            @RequestBody List<KakaoMessageRequest> requests) {
+
+        try {
+            List<AlimtalkRequest> alimtalkRequests = requests.stream()
+                    .map(request -> kakaoService.buildAlimtalkRequest(
+                            request.getRecipient(),
+                            request.getTemplateCode(),
+                            request.getVariables(),
+                            toAlimtalkButtons(request.getButtons())))
+                    .collect(Collectors.toList());
+
+            List<AlimtalkBatchResponse> responses = kakaoService.sendAlimtalkBatch(alimtalkRequests);
+
+            int failed = responses.stream()
+                    .mapToInt(response -> response.getFailedMessageList() == null
+                            ? 0 : response.getFailedMessageList().size())
+                    .sum();
+
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "total", alimtalkRequests.size(),
+                    "failed", failed,
+                    "groupIds", responses.stream()
+                            .filter(response -> response.getGroupInfo() != null)
+                            .map(response -> response.getGroupInfo().getGroupId())
+                            .collect(Collectors.toList())
+            ));
+        } catch (CustomException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .body(Map.of("error", e.getMessage(), "errorCode", e.getErrorCode()));
+        } catch (Exception e) {
+            log.error("Failed to send alimtalk batch", e);
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 알림톡 대량 발송 (스트리밍)
+     * 본문은 수신자 한 줄씩의 NDJSON 또는 JSON 배열: {"recipient": "010-1234-5678", "variables": {...}}
+     * 본문을 바인딩하지 않고 읽는 대로 큐에 넣으므로 수신자 수와 관계없이 메모리 사용량이 일정하다.
+     * 응답은 본문을 모두 읽은 뒤에 오므로, 진행 중에 조회하려면 batchId 를 지정하여 호출한다.
+     */
+    @PostMapping(value = "/kakao/alimtalk/bulk",
+            consumes = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> sendAlimtalkBulk(
+            @RequestParam String templateCode,
+            @RequestParam(required = false) String batchId,
+            HttpServletRequest request) {
+
+        try {
+            BulkProgress progress = bulkAlimtalkSender.send(templateCode, batchId, request.getInputStream());
+            return progress.getStatus() == BulkProgress.Status.FAILED
+                    ? ResponseEntity.badRequest().body(progress)
+                    : ResponseEntity.ok(progress);
+        } catch (CustomException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .body(Map.of("error", e.getMessage(), "errorCode", e.getErrorCode()));
+        } catch (IOException e) {
+            log.error("Failed to read bulk alimtalk request", e);
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 알림톡 대량 발송 진행 상황
+     */
+    @GetMapping("/kakao/alimtalk/bulk/{batchId}")
+    public ResponseEntity<?> getAlimtalkBulkProgress(@PathVariable String batchId) {
+        try {
+            return ResponseEntity.ok(bulkAlimtalkSender.getProgress(batchId));
+        } catch (CustomException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .body(Map.of("error", e.getMessage(), "errorCode", e.getErrorCode()));
+        }
+    }
+
     /**
      * 알림톡 비동기 발송
      */
@@ -83,17 +189,28 @@ public class NotificationController {
                         .collect(Collectors.toList());
             }
 
-            kakaoService.sendAlimtalkAsync(
+            Long scheduleId = kakaoService.sendAlimtalkAsync(
                     request.getRecipient(),
                     request.getTemplateCode(),
                     request.getVariables(),
-                    buttons
+                    buttons,
+                    sendAt(request.getSendAt(), request.getDelay())
             );
 
+            if (scheduleId != null) {
+                return ResponseEntity.ok(Map.of(
+                        "success", true,
+                        "message", "Alimtalk scheduled",
+                        "scheduleId", scheduleId
+                ));
+            }
             return ResponseEntity.ok(Map.of(
                     "success", true,
                     "message", "Alimtalk queued for sending"
             ));
+        } catch (CustomException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .body(Map.of("error", e.getMessage(), "errorCode", e.getErrorCode()));
         } catch (Exception e) {
             log.error("Failed to queue alimtalk", e);
             return ResponseEntity.internalServerError()
@@ -101,6 +218,71 @@ public class NotificationController {
         }
     }
 
+    /**
+     * 이메일 비동기 발송 (sendAt/delay 가 있으면 예약 발송)
+     */
+    @PostMapping("/email/async")
+    public ResponseEntity<?> sendEmailAsync(@Valid @RequestBody EmailRequest request) {
+        try {
+            Long scheduleId = emailService.sendEmailAsync(
+                    request.getRecipient(),
+                    request.getSubject(),
+                    request.getContent(),
+                    sendAt(request.getSendAt(), request.getDelay()));
+
+            if (scheduleId != null) {
+                return ResponseEntity.ok(Map.of(
+                        "success", true,
+                        "message", "Email scheduled",
+                        "scheduleId", scheduleId
+                ));
+            }
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "message", "Email queued for sending"
+            ));
+        } catch (CustomException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .body(Map.of("error", e.getMessage(), "errorCode", e.getErrorCode()));
+        } catch (Exception e) {
+            log.error("Failed to queue email", e);
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 예약 발송 조회
+     */
+    @GetMapping("/scheduled/{scheduleId}")
+    public ResponseEntity<?> getScheduledNotification(@PathVariable long scheduleId) {
+        try {
+            ScheduledNotification notification = notificationScheduler.get(scheduleId);
+            return ResponseEntity.ok(Map.of(
+                    "scheduleId", notification.getId(),
+                    "messageType", notification.getMessageType(),
+                    "deliverAt", notification.getDeliverAt(),
+                    "status", notification.getStatus()
+            ));
+        } catch (CustomException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .body(Map.of("error", e.getMessage(), "errorCode", e.getErrorCode()));
+        }
+    }
+
+    /**
+     * 예약 발송 취소 (이미 발송되었으면 409)
+     */
+    @DeleteMapping("/scheduled/{scheduleId}")
+    public ResponseEntity<?> cancelScheduledNotification(@PathVariable long scheduleId) {
+        if (!notificationScheduler.cancel(scheduleId)) {
+            return ResponseEntity.status(409)
+                    .body(Map.of("error", "Scheduled notification already sent or canceled",
+                            "errorCode", "SCHEDULE_NOT_CANCELABLE"));
+        }
+        return ResponseEntity.ok(Map.of("success", true, "scheduleId", scheduleId));
+    }
+
     /**
      * 친구톡 발송
      */
@@ -112,13 +294,18 @@ public class NotificationController {
             @RequestParam(required = false) String webUrl) {
 
         try {
-            KakaoResponse response = kakaoService.sendFriendtalk(
+            FriendtalkResult result = kakaoService.sendFriendtalk(
                     receiverUuids, text, buttonTitle, webUrl);
 
             return ResponseEntity.ok(Map.of(
-                    "success", true,
-                    "requestId", response.getRequestId()
+                    "success", result.getFailedReceiverUuids().isEmpty(),
+                    "requestIds", result.getRequestIds(),
+                    "sent", result.getSuccessfulReceiverUuids().size(),
+                    "failedReceiverUuids", result.getFailedReceiverUuids()
             ));
+        } catch (CustomException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .body(Map.of("error", e.getMessage(), "errorCode", e.getErrorCode()));
         } catch (Exception e) {
             log.error("Failed to send friendtalk", e);
             return ResponseEntity.internalServerError()
@@ -128,35 +315,45 @@ public class NotificationController {
 
     /**
      * 멀티채널 알림 발송 (이메일 + 카카오톡)
+     * 채널을 동시에 발송하고 채널별 결과를 반환한다.
+     * channels 미지정 시 전체 채널, fallback 미지정 시 설정값(notification.multi-channel.fallback) 사용
+     * 예: channels=ALIMTALK&fallback=ALIMTALK:EMAIL → 알림톡 실패 시에만 이메일 발송
      */
     @PostMapping("/multi-channel")
     public ResponseEntity<?> sendMultiChannelNotification(
-            @RequestParam String email,
-            @RequestParam String phone,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String phone,
             @RequestParam String name,
             @RequestParam String subject,
-            @RequestParam String content) {
+            @RequestParam String content,
+            @RequestParam(required = false) List<String> channels,
+            @RequestParam(required = false) String fallback) {
 
         try {
-            // 이메일 발송
-            emailService.sendEmailAsync(email, subject, content);
-
-            // 카카오톡 알림톡 발송
-            Map<String, String> variables = new HashMap<>();
-            variables.put("name", name);
-            variables.put("content", content);
-
-            kakaoService.sendAlimtalkAsync(
-                    phone,
-                    "NOTIFICATION_TEMPLATE",
-                    variables,
-                    null
-            );
+            Set<MultiChannelDispatcher.Channel> targets = EnumSet.noneOf(MultiChannelDispatcher.Channel.class);
+            if (channels == null || channels.isEmpty()) {
+                targets.addAll(EnumSet.allOf(MultiChannelDispatcher.Channel.class));
+            } else {
+                channels.forEach(channel -> targets.add(MultiChannelDispatcher.parseChannel(channel)));
+            }
+            Map<MultiChannelDispatcher.Channel, MultiChannelDispatcher.Channel> fallbacks = fallback == null
+                    ? multiChannelDispatcher.getDefaultFallbacks()
+                    : MultiChannelDispatcher.parseFallbacks(fallback);
 
-            return ResponseEntity.ok(Map.of(
-                    "success", true,
-                    "message", "Multi-channel notification queued"
-            ));
+            List<MultiChannelDispatcher.ChannelResult> results = multiChannelDispatcher.dispatch(
+                    new MultiChannelDispatcher.Notification(email, phone, name, subject, content),
+                    targets, fallbacks);
+
+            boolean delivered = results.stream()
+                    .anyMatch(result -> result.status() == MultiChannelDispatcher.Status.SENT);
+            return ResponseEntity.status(delivered ? HttpStatus.OK : HttpStatus.BAD_GATEWAY)
+                    .body(Map.of(
+                            "success", delivered,
+                            "results", results
+                    ));
+        } catch (CustomException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .body(Map.of("error", e.getMessage(), "errorCode", e.getErrorCode()));
         } catch (Exception e) {
             log.error("Failed to send multi-channel notification", e);
             return ResponseEntity.internalServerError()
@@ -164,4 +361,25 @@ public class NotificationController {
         }
     }
 
+    private static Instant sendAt(OffsetDateTime sendAt, Duration delay) {
+        if (sendAt != null) {
+            return sendAt.toInstant();
+        }
+        return delay != null ? Instant.now().plus(delay) : null;
+    }
+
+    private List<AlimtalkRequest.Button> toAlimtalkButtons(
+            List<KakaoMessageRequest.ButtonDto> buttons) {
+        if (buttons == null) return null;
+
+        return buttons.stream()
+                .map(btn -> AlimtalkRequest.Button.builder()
+                        .type(btn.getType())
+                        .name(btn.getName())
+                        .linkMobile(btn.getLinkMobile())
+                        .linkPc(btn.getLinkPc())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
 }
@@ -1,15 +1,24 @@
 package com.example.api.controller;
 
 import com.example.api.dto.request.UserUpdateRequest;
+import com.example.api.dto.response.UserPageResponse;
 import com.example.api.dto.response.UserResponse;
+import com.example.api.entity.UserField;
 import com.example.api.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/users")
@@ -19,10 +28,58 @@ public class UserController {
 
     private final UserService userService;
 
+    /**
+     * 사용자 목록 (cursor 기반 페이지)
+     * 예: GET /api/users?limit=100&fields=id,email,createdAt → 응답의 nextCursor 로 다음 페이지 요청
+     */
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        List<UserResponse> users = userService.findAll();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<UserPageResponse> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String fields) {
+        UserPageResponse page = userService.findPage(cursor, limit, UserField.parse(fields));
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * 전체 사용자 내보내기 (NDJSON 또는 CSV 스트리밍)
+     * 예: GET /api/users/export?format=csv&fields=id,email&gzip=true
+     * 행을 모으지 않고 커서에서 바로 응답으로 기록하며, 클라이언트가 끊으면 다음 flush 에서 중단한다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        UserService.ExportFormat exportFormat = UserService.ExportFormat.of(format);
+        Set<UserField> selected = UserField.parse(fields);
+
+        StreamingResponseBody body = outputStream -> {
+            long started = System.currentTimeMillis();
+            try {
+                OutputStream out = gzip ? new GZIPOutputStream(outputStream, 64 * 1024, true) : outputStream;
+                long rows = userService.export(selected, exportFormat, out);
+                if (out instanceof GZIPOutputStream gzipOut) {
+                    gzipOut.finish();
+                }
+                log.info("Exported {} users as {} in {} ms",
+                        rows, exportFormat, System.currentTimeMillis() - started);
+            } catch (IOException e) {
+                // 클라이언트 연결 종료: 커서/트랜잭션은 이미 정리되었으므로 기록만 남김
+                log.info("User export aborted after {} ms: {}", System.currentTimeMillis() - started, e.getMessage());
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users." + exportFormat.extension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,25 @@
+package com.example.api.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 대량 알림톡 요청의 수신자 한 줄 (NDJSON 한 줄 또는 JSON 배열 원소)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BulkAlimtalkRow {
+
+    @JsonAlias("phone")
+    private String recipient;  // 수신자 전화번호 (하이픈, +82 허용)
+
+    private Map<String, String> variables;  // 템플릿 치환 변수
+
+}
@@ -0,0 +1,36 @@
+package com.example.api.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignRequest {
+
+    @NotBlank(message = "Campaign id is required")
+    private String campaignId;
+
+    @NotBlank(message = "Template is required")
+    private String template;
+
+    @NotBlank(message = "Subject is required")
+    private String subject;
+
+    /**
+     * 수신 대상 사용자 상태 (기본값: ACTIVE)
+     */
+    private String status;
+
+    /**
+     * 모든 수신자에게 공통으로 들어가는 템플릿 변수
+     */
+    private Map<String, String> variables;
+
+}
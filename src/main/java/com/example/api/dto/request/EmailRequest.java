@@ -7,6 +7,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -23,4 +26,8 @@ public class EmailRequest {
     @NotBlank(message = "Content is required")
     private String content;
 
+    private OffsetDateTime sendAt;  // 예약 발송 시각
+
+    private Duration delay;  // 지연 발송 (예: PT30M), sendAt 이 있으면 무시
+
 }
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +34,10 @@ public class KakaoMessageRequest {
 
     private List<ButtonDto> buttons;  // 버튼 정보
 
+    private OffsetDateTime sendAt;  // 예약 발송 시각 (예: 2025-01-02T09:00:00+09:00)
+
+    private Duration delay;  // 지연 발송 (예: PT30M), sendAt 이 있으면 무시
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
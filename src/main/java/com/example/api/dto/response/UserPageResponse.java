@@ -0,0 +1,21 @@
+package com.example.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPageResponse {
+
+    private List<Map<String, Object>> items;  // 요청한 필드만 포함
+    private String nextCursor;  // 다음 페이지 요청 시 cursor 로 전달, 마지막 페이지면 null
+    private boolean hasNext;
+
+}
@@ -0,0 +1,24 @@
+package com.example.api.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailLog {
+
+    private Long id;
+    private Long userId;
+    private String recipient;
+    private String subject;
+    private String status;
+    private String errorMessage;
+    private LocalDateTime sentAt;
+
+}
@@ -0,0 +1,25 @@
+package com.example.api.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+
+    private Long id;
+    private String messageType;  // EMAIL, KAKAO, NOTIFICATION
+    private String payload;  // 메시지 JSON
+    private String status;  // PENDING, DEAD
+    private Integer attempts;  // 발행 실패 횟수
+    private LocalDateTime nextAttemptAt;  // 다음 relay 시각
+    private String lastError;
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,25 @@
+package com.example.api.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueuedMessage {
+
+    private Long id;
+    private String messageType;  // EMAIL, KAKAO, NOTIFICATION
+    private String payload;  // 메시지 JSON
+    private String status;  // READY, DEAD
+    private Integer attempts;  // 소비 시도 횟수
+    private LocalDateTime visibleAt;  // 이 시각 이후에 소비 가능
+    private String lastError;
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,25 @@
+package com.example.api.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledNotification {
+
+    private Long id;
+    private String messageType;  // EMAIL, KAKAO
+    private String payload;  // 메시지 JSON
+    private LocalDateTime deliverAt;  // 발송 예정 시각
+    private String status;  // PENDING, LOADED
+    private String loadedBy;  // 타이밍 휠에 올린 노드
+    private LocalDateTime loadedAt;
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,79 @@
+package com.example.api.entity;
+
+import com.example.api.exception.CustomException;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 사용자 조회 API 에 노출할 수 있는 필드 (password, provider_id 는 제외)
+ * 필드 선택 시 column 만 SELECT 목록에 들어가므로 이 enum 이 SQL 식별자 화이트리스트 역할을 한다.
+ */
+public enum UserField {
+
+    ID("id", "id", User::getId),
+    USERNAME("username", "username", User::getUsername),
+    EMAIL("email", "email", User::getEmail),
+    PHONE("phone", "phone", User::getPhone),
+    NAME("name", "name", User::getName),
+    PROVIDER("provider", "provider", User::getProvider),
+    STATUS("status", "status", User::getStatus),
+    CREATED_AT("createdAt", "created_at", User::getCreatedAt),
+    UPDATED_AT("updatedAt", "updated_at", User::getUpdatedAt);
+
+    public static final Set<UserField> ALL = Collections.unmodifiableSet(EnumSet.allOf(UserField.class));
+
+    private final String property;
+    private final String column;
+    private final Function<User, Object> accessor;
+
+    UserField(String property, String column, Function<User, Object> accessor) {
+        this.property = property;
+        this.column = column;
+        this.accessor = accessor;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    public Object valueOf(User user) {
+        return accessor.apply(user);
+    }
+
+    /**
+     * "id,email,createdAt" 형식의 필드 목록 파싱 (비어 있으면 전체 필드)
+     */
+    public static Set<UserField> parse(String fields) {
+        if (!StringUtils.hasText(fields)) {
+            return ALL;
+        }
+        Set<UserField> selected = EnumSet.noneOf(UserField.class);
+        for (String field : StringUtils.commaDelimitedListToStringArray(fields)) {
+            selected.add(of(field.trim()));
+        }
+        return selected;
+    }
+
+    private static UserField of(String property) {
+        for (UserField field : values()) {
+            if (field.property.equalsIgnoreCase(property)
+                    || field.name().equals(property.toUpperCase(Locale.ROOT))) {
+                return field;
+            }
+        }
+        throw new CustomException("Unknown user field: " + property + " (allowed: " + ALL.stream()
+                .map(UserField::property).toList() + ")",
+                "INVALID_USER_FIELD", HttpStatus.BAD_REQUEST.value());
+    }
+
+}
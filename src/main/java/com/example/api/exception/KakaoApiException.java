@@ -2,12 +2,35 @@ package com.example.api.exception;
 
 public class KakaoApiException extends RuntimeException {
 
+    private final int statusCode;
+
     public KakaoApiException(String message) {
         super(message);
+        this.statusCode = 0;
+    }
+
+    public KakaoApiException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
     }
 
     public KakaoApiException(String message, Throwable cause) {
         super(message, cause);
+        this.statusCode = 0;
+    }
+
+    /**
+     * 응답 상태 코드 (응답을 받지 못한 경우 0)
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * 템플릿 오류, 잘못된 수신자 등 재시도해도 성공할 수 없는 요청 오류 여부
+     */
+    public boolean isClientError() {
+        return statusCode >= 400 && statusCode < 500 && statusCode != 429;
     }
 
 }
@@ -0,0 +1,183 @@
+package com.example.api.kakao.bulk;
+
+import com.example.api.dto.request.BulkAlimtalkRow;
+import com.example.api.exception.CustomException;
+import com.example.api.kakao.template.KakaoTemplate;
+import com.example.api.kakao.template.KakaoTemplateRegistry;
+import com.example.api.messaging.dto.KakaoMessage;
+import com.example.api.messaging.producer.MessagePublisher;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 대량 알림톡 발송 (스트리밍)
+ * - 요청 본문(NDJSON 또는 JSON 배열)을 MappingIterator 로 한 줄씩 읽으므로 전체를 메모리에 올리지 않음
+ * - 전화번호 정규화, 템플릿 변수 검사, 중복 제거를 읽는 즉시 수행
+ * - chunk-size 건씩 MessagePublisher.sendAll 로 발행하며, 발행 중인 청크는 하나로 제한
+ *   (청크는 하나의 트랜잭션으로 발행하므로 outbox/JDBC 큐에는 청크당 한 번 커밋되고, 실패하면 청크 전체가 롤백됨)
+ * 진행 상황은 batchId 로 조회할 수 있고 완료 후 progress-retention 동안 보관한다.
+ * 발송은 본문을 끝까지 읽은 뒤에 응답하므로, 진행 중에 조회하려면 호출자가 batchId 를 지정한다.
+ */
+@Component
+@Slf4j
+public class BulkAlimtalkSender {
+
+    private static final Pattern BATCH_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final ObjectReader rowReader;
+    private final KakaoTemplateRegistry kakaoTemplateRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration progressRetention;
+    private final Map<String, BulkProgress> batches = new ConcurrentHashMap<>();
+
+    @Autowired(required = false)
+    private MessagePublisher messagePublisher;
+
+    public BulkAlimtalkSender(ObjectMapper objectMapper,
+                              KakaoTemplateRegistry kakaoTemplateRegistry,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${kakao.bulk.chunk-size:500}") int chunkSize,
+                              @Value("${kakao.bulk.progress-retention:1h}") Duration progressRetention) {
+        this.rowReader = objectMapper.readerFor(BulkAlimtalkRow.class);
+        this.kakaoTemplateRegistry = kakaoTemplateRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.progressRetention = progressRetention;
+    }
+
+    /**
+     * 본문을 끝까지 읽어 발행한 뒤 진행 상황을 반환
+     * 본문 형식이 잘못되면 그 전까지 읽은 수신자는 발행되고 FAILED 로 끝난다.
+     *
+     * @param batchId 호출자가 지정한 배치 ID (null 이면 생성). 보관 중인 배치와 겹치면 409
+     */
+    public BulkProgress send(String templateCode, String batchId, InputStream body) {
+        if (messagePublisher == null) {
+            throw new CustomException("Message publisher is not available",
+                    "PUBLISHER_UNAVAILABLE", 503);
+        }
+        KakaoTemplate template = kakaoTemplateRegistry.get(templateCode);
+
+        if (batchId != null && !BATCH_ID.matcher(batchId).matches()) {
+            throw new CustomException("Invalid batch id (allowed: " + BATCH_ID.pattern() + ")",
+                    "INVALID_BATCH_ID", 400);
+        }
+
+        evictExpired();
+        BulkProgress progress = new BulkProgress(
+                batchId != null ? batchId : UUID.randomUUID().toString(), template.code());
+        if (batches.putIfAbsent(progress.getBatchId(), progress) != null) {
+            throw new CustomException("Bulk alimtalk batch already exists: " + batchId,
+                    "BATCH_ALREADY_EXISTS", 409);
+        }
+
+        LongHashSet seen = new LongHashSet(chunkSize);
+        List<KakaoMessage> chunk = new ArrayList<>(chunkSize);
+        CompletableFuture<Void> inFlight = CompletableFuture.completedFuture(null);
+
+        try (MappingIterator<BulkAlimtalkRow> rows = rowReader.readValues(body)) {
+            while (rows.hasNextValue()) {
+                BulkAlimtalkRow row = rows.nextValue();
+                progress.received();
+
+                String recipient = PhoneNumbers.normalize(row.getRecipient());
+                if (recipient == null || !kakaoTemplateRegistry.accepts(template, row.getVariables())) {
+                    progress.invalid();
+                    continue;
+                }
+                if (!seen.add(Long.parseLong(recipient))) {
+                    progress.duplicate();
+                    continue;
+                }
+
+                chunk.add(KakaoMessage.builder()
+                        .recipient(recipient)
+                        .messageType("ALIMTALK")
+                        .templateCode(template.code())
+                        .variables(row.getVariables())
+                        .build());
+                if (chunk.size() == chunkSize) {
+                    inFlight = enqueue(chunk, inFlight, progress);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                inFlight = enqueue(chunk, inFlight, progress);
+            }
+            inFlight.join();
+            progress.complete();
+        } catch (IOException | RuntimeException e) {
+            inFlight.join();
+            log.warn("Bulk alimtalk {} aborted after {} rows: {}",
+                    progress.getBatchId(), progress.getReceived(), e.getMessage());
+            progress.fail(e.getMessage());
+        }
+
+        log.info("Bulk alimtalk {} {} - received: {}, enqueued: {}, duplicates: {}, invalid: {}, failed: {}",
+                progress.getBatchId(), progress.getStatus(), progress.getReceived(), progress.getEnqueued(),
+                progress.getDuplicates(), progress.getInvalid(), progress.getFailed());
+        return progress;
+    }
+
+    public BulkProgress getProgress(String batchId) {
+        BulkProgress progress = batches.get(batchId);
+        if (progress == null) {
+            throw new CustomException("Bulk alimtalk batch not found: " + batchId,
+                    "BATCH_NOT_FOUND", 404);
+        }
+        return progress;
+    }
+
+    /**
+     * 직전 청크의 발행이 끝난 뒤 다음 청크를 발행 (본문 읽기와 발행은 겹치되 대기 청크는 하나)
+     * 반환된 future 는 실패해도 예외 없이 완료되며 결과는 진행 상황 카운터에 반영된다.
+     * 청크를 한 트랜잭션에서 발행하므로 도중에 실패해도 청크 일부만 큐에 남지 않으며, 청크 전체가 failed 로 집계된다.
+     */
+    private CompletableFuture<Void> enqueue(List<KakaoMessage> chunk, CompletableFuture<Void> previous,
+                                            BulkProgress progress) {
+        previous.join();
+        int size = chunk.size();
+        CompletableFuture<Void> published;
+        try {
+            published = transactionTemplate.execute(status -> messagePublisher.sendAll(chunk));
+        } catch (RuntimeException e) {
+            published = CompletableFuture.failedFuture(e);
+        }
+        return published.handle((unused, error) -> {
+            if (error == null) {
+                progress.enqueued(size);
+            } else {
+                log.warn("Failed to enqueue {} bulk alimtalk messages for {}: {}",
+                        size, progress.getBatchId(), error.getMessage());
+                progress.failed(size);
+            }
+            return null;
+        });
+    }
+
+    private void evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minus(progressRetention);
+        batches.values().removeIf(progress ->
+                progress.isFinished() && progress.getFinishedAt().isBefore(threshold));
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.example.api.kakao.bulk;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 알림톡 진행 상황
+ * 요청 스레드가 갱신하고 조회 API 가 동시에 읽는다.
+ */
+public class BulkProgress {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private final String batchId;
+    private final String templateCode;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    BulkProgress(String batchId, String templateCode) {
+        this.batchId = batchId;
+        this.templateCode = templateCode;
+    }
+
+    void received() {
+        received.incrementAndGet();
+    }
+
+    void duplicate() {
+        duplicates.incrementAndGet();
+    }
+
+    void invalid() {
+        invalid.incrementAndGet();
+    }
+
+    void enqueued(int count) {
+        enqueued.addAndGet(count);
+    }
+
+    void failed(int count) {
+        failed.addAndGet(count);
+    }
+
+    void complete() {
+        finish(Status.COMPLETED, null);
+    }
+
+    void fail(String error) {
+        finish(Status.FAILED, error);
+    }
+
+    private void finish(Status status, String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public String getTemplateCode() {
+        return templateCode;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getReceived() {
+        return received.get();
+    }
+
+    public long getEnqueued() {
+        return enqueued.get();
+    }
+
+    public long getDuplicates() {
+        return duplicates.get();
+    }
+
+    public long getInvalid() {
+        return invalid.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.example.api.kakao.bulk;
+
+/**
+ * 0 을 제외한 long 값 집합 (open addressing, 선형 탐색)
+ * 박싱된 Long 대신 배열 하나만 쓰므로 원소당 약 8~16 바이트로 대량 중복 제거에 사용한다.
+ * 스레드 안전하지 않음
+ */
+final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+
+    private long[] table;
+    private int size;
+
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2) - 1) << 1;
+        this.table = new long[capacity];
+    }
+
+    /**
+     * 새로 추가되었으면 true, 이미 있으면 false
+     */
+    boolean add(long value) {
+        if (value == EMPTY) {
+            throw new IllegalArgumentException("0 cannot be stored");
+        }
+        if ((size + 1) * 2 > table.length) {
+            resize();
+        }
+        return insert(table, value);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private boolean insert(long[] target, long value) {
+        int mask = target.length - 1;
+        int index = mix(value) & mask;
+        while (true) {
+            long current = target[index];
+            if (current == EMPTY) {
+                target[index] = value;
+                size++;
+                return true;
+            }
+            if (current == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void resize() {
+        long[] previous = table;
+        table = new long[previous.length << 1];
+        size = 0;
+        for (long value : previous) {
+            if (value != EMPTY) {
+                insert(table, value);
+            }
+        }
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.example.api.kakao.bulk;
+
+/**
+ * 휴대폰 번호 정규화
+ * 하이픈/공백/괄호/점을 제거하고 +82, 82 국가번호는 0 으로 바꾼 뒤 01X 로 시작하는 10~11자리만 허용한다.
+ * 정규화 결과는 숫자만으로 이루어지므로 중복 제거용 long 키로도 사용할 수 있다.
+ */
+public final class PhoneNumbers {
+
+    private static final int MAX_LENGTH = 11;
+
+    private PhoneNumbers() {
+    }
+
+    /**
+     * 정규화된 번호 (01012345678 형식), 휴대폰 번호가 아니면 null
+     */
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        char[] digits = new char[MAX_LENGTH];
+        int length = 0;
+        int start = 0;
+        int end = raw.length();
+        while (start < end && Character.isWhitespace(raw.charAt(start))) {
+            start++;
+        }
+        boolean countryCode = false;
+        if (raw.startsWith("+82", start)) {
+            start += 3;
+            countryCode = true;
+        } else if (raw.startsWith("82", start) && end - start >= 11) {
+            start += 2;
+            countryCode = true;
+        }
+        if (countryCode) {
+            digits[length++] = '0';
+        }
+
+        for (int i = start; i < end; i++) {
+            char c = raw.charAt(i);
+            if (c >= '0' && c <= '9') {
+                // +82 010... 처럼 국가번호 뒤에 0 을 한 번 더 쓴 경우
+                if (countryCode && c == '0' && length == 1) {
+                    continue;
+                }
+                if (length == MAX_LENGTH) {
+                    return null;
+                }
+                digits[length++] = c;
+            } else if (c != '-' && c != ' ' && c != '(' && c != ')' && c != '.') {
+                return null;
+            }
+        }
+
+        if (length < 10 || digits[0] != '0' || digits[1] != '1') {
+            return null;
+        }
+        char carrier = digits[2];
+        if (carrier != '0' && carrier != '1' && carrier != '6' && carrier != '7'
+                && carrier != '8' && carrier != '9') {
+            return null;
+        }
+        return new String(digits, 0, length);
+    }
+
+}
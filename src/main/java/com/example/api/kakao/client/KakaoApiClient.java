@@ -1,32 +1,47 @@
 package com.example.api.kakao.client;
 
 import com.example.api.exception.KakaoApiException;
+import com.example.api.kakao.dto.AlimtalkBatchRequest;
+import com.example.api.kakao.dto.AlimtalkBatchResponse;
 import com.example.api.kakao.dto.AlimtalkRequest;
 import com.example.api.kakao.dto.FriendtalkRequest;
+import com.example.api.kakao.dto.FriendtalkResult;
 import com.example.api.kakao.dto.KakaoResponse;
+import com.example.api.ratelimit.SendRateGovernor;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.HexFormat;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class KakaoApiClient {
 
+    public static final String ALIMTALK = "alimtalk";
+    public static final String FRIENDTALK = "friendtalk";
+
     private final WebClient kakaoWebClient;
+    private final WebClient bizMessageWebClient;
+    private final SolapiRequestSigner solapiRequestSigner;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final SendRateGovernor sendRateGovernor;
 
     @Value("${kakao.api.admin-key}")
     private String adminKey;
@@ -34,31 +49,71 @@ public class KakaoApiClient {
     @Value("${kakao.api.sender-key}")
     private String senderKey;
 
-    @Value("${kakao.bizmessage.api-key}")
-    private String bizApiKey;
+    @Value("${kakao.bizmessage.batch-size:500}")
+    private int batchSize;
+
+    @Value("${kakao.api.friendtalk.max-receivers:5}")
+    private int friendtalkMaxReceivers;
 
-    @Value("${kakao.bizmessage.api-secret}")
-    private String bizApiSecret;
+    @Value("${kakao.api.friendtalk.parallelism:4}")
+    private int friendtalkParallelism;
+
+    /**
+     * 카카오 친구톡 발송 (수신자 분할)
+     * 한 번에 보낼 수 있는 수신자 수(max-receivers)로 나누어 최대 parallelism 개 요청을 동시에 보내고
+     * 결과를 하나로 합친다. 실패한 분할 요청은 전체를 실패시키지 않고 해당 수신자만 실패로 집계한다.
+     */
+    public Mono<FriendtalkResult> sendFriendtalkChunked(FriendtalkRequest request) {
+        List<String> receivers = request.getReceiverUuids() == null ? List.of() : request.getReceiverUuids();
+
+        return Flux.fromIterable(receivers)
+                .buffer(friendtalkMaxReceivers)
+                .flatMap(chunk -> sendFriendtalk(FriendtalkRequest.builder()
+                                .receiverUuids(chunk)
+                                .templateObject(request.getTemplateObject())
+                                .build())
+                                .map(response -> new FriendtalkChunk(chunk, response, null))
+                                .onErrorResume(error -> Mono.just(new FriendtalkChunk(chunk, null, error))),
+                        friendtalkParallelism)
+                .collect(FriendtalkResult::new, (result, chunk) -> {
+                    if (chunk.error() == null) {
+                        result.addResponse(chunk.receivers(), chunk.response());
+                    } else {
+                        result.addFailure(chunk.receivers(), chunk.error());
+                    }
+                })
+                .doOnSuccess(result ->
+                        log.info("Friendtalk sent in {} requests: {} succeeded, {} failed",
+                                result.getChunks(),
+                                result.getSuccessfulReceiverUuids().size(),
+                                result.getFailedReceiverUuids().size()));
+    }
 
     /**
      * 카카오 친구톡 발송 (카카오톡 채널 친구에게만 발송 가능)
      */
     public Mono<KakaoResponse> sendFriendtalk(FriendtalkRequest request) {
-        return kakaoWebClient.post()
-                .uri("/v1/api/talk/friends/message/default/send")
-                .header("Authorization", "KakaoAK " + adminKey)
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        response -> response.bodyToMono(String.class)
-                                .flatMap(body -> {
-                                    log.error("Friendtalk API Error: {}", body);
-                                    return Mono.error(new KakaoApiException(
-                                            "Failed to send friendtalk: " + body));
-                                })
-                )
-                .bodyToMono(KakaoResponse.class)
+        int permits = request.getReceiverUuids() == null ? 1 : request.getReceiverUuids().size();
+
+        return acquire(FRIENDTALK, senderKey, permits)
+                .then(Mono.defer(() -> kakaoWebClient.post()
+                        .uri("/v1/api/talk/friends/message/default/send")
+                        .header("Authorization", "KakaoAK " + adminKey)
+                        .bodyValue(request)
+                        .retrieve()
+                        .onStatus(
+                                status -> status.is4xxClientError() || status.is5xxServerError(),
+                                response -> response.bodyToMono(String.class)
+                                        .flatMap(body -> {
+                                            log.error("Friendtalk API Error: {}", body);
+                                            return Mono.error(new KakaoApiException(
+                                                    "Failed to send friendtalk: " + body,
+                                                    response.statusCode().value()));
+                                        })
+                        )
+                        .bodyToMono(KakaoResponse.class)
+                        .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(FRIENDTALK)))
+                        .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(FRIENDTALK)))))
                 .doOnSuccess(response ->
                         log.info("Friendtalk sent successfully: {}", response))
                 .doOnError(error ->
@@ -70,26 +125,27 @@ public class KakaoApiClient {
      * Solapi(구 Coolsms) 등의 대행사 API 사용
      */
     public Mono<KakaoResponse> sendAlimtalk(AlimtalkRequest request) {
-        // Solapi 기준 예시
-        String authHeader = generateSolapiAuthHeader();
-
-        return WebClient.create("https://api.solapi.com")
-                .post()
-                .uri("/kakao/v1/alimtalk/send")
-                .header("Authorization", authHeader)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        response -> response.bodyToMono(String.class)
-                                .flatMap(body -> {
-                                    log.error("Alimtalk API Error: {}", body);
-                                    return Mono.error(new KakaoApiException(
-                                            "Failed to send alimtalk: " + body));
-                                })
-                )
-                .bodyToMono(KakaoResponse.class)
+        // Solapi 기준 예시 (대기 후 발송될 수 있으므로 서명은 구독 시점에 생성)
+        return acquire(ALIMTALK, request.getKakaoOptions().getSenderKey(), 1)
+                .then(Mono.defer(() -> bizMessageWebClient.post()
+                        .uri("/kakao/v1/alimtalk/send")
+                        .header("Authorization", solapiRequestSigner.authorizationHeader())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(request)
+                        .retrieve()
+                        .onStatus(
+                                status -> status.is4xxClientError() || status.is5xxServerError(),
+                                response -> response.bodyToMono(String.class)
+                                        .flatMap(body -> {
+                                            log.error("Alimtalk API Error: {}", body);
+                                            return Mono.error(new KakaoApiException(
+                                                    "Failed to send alimtalk: " + body,
+                                                    response.statusCode().value()));
+                                        })
+                        )
+                        .bodyToMono(KakaoResponse.class)
+                        .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(ALIMTALK)))
+                        .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(ALIMTALK)))))
                 .doOnSuccess(response ->
                         log.info("Alimtalk sent successfully: {}", response))
                 .doOnError(error ->
@@ -97,34 +153,86 @@ public class KakaoApiClient {
     }
 
     /**
-     * Solapi 인증 헤더 생성
+     * 알림톡 대량 발송 (Solapi 다건 발송 API)
+     * 요청 목록을 batch-size 단위로 나누어 한 번의 HTTP 요청에 여러 메시지를 실어 보낸다.
+     * 발송 한도는 발신 프로필(sender key)별이므로 먼저 sender key 로 묶은 뒤 나누어, 분할 요청 하나가
+     * 한 sender key 의 한도만 사용하게 한다. 분할된 요청마다 하나의 응답이 순서대로 발행된다.
      */
-    private String generateSolapiAuthHeader() {
-        try {
-            String salt = UUID.randomUUID().toString().replaceAll("-", "");
-            String date = ZonedDateTime.now(ZoneId.of("Asia/Seoul"))
-                    .format(DateTimeFormatter.ISO_INSTANT);
-
-            String signature = getSignature(date, salt);
-
-            return String.format("HMAC-SHA256 apiKey=%s, date=%s, salt=%s, signature=%s",
-                    bizApiKey, date, salt, signature);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to generate auth header", e);
+    public Flux<AlimtalkBatchResponse> sendAlimtalkBatch(List<AlimtalkRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return Flux.empty();
+        }
+
+        Map<String, List<AlimtalkRequest>> bySenderKey = new LinkedHashMap<>();
+        for (AlimtalkRequest request : requests) {
+            bySenderKey.computeIfAbsent(rateKey(request.getKakaoOptions().getSenderKey()),
+                    key -> new ArrayList<>()).add(request);
         }
+
+        return Flux.fromIterable(bySenderKey.entrySet())
+                .concatMap(group -> Flux.fromIterable(group.getValue())
+                        .buffer(batchSize)
+                        .concatMap(chunk -> sendAlimtalkChunk(group.getKey(), chunk)));
     }
 
-    private String getSignature(String date, String salt) throws Exception {
-        String message = date + salt;
+    private Mono<AlimtalkBatchResponse> sendAlimtalkChunk(String senderKey, List<AlimtalkRequest> chunk) {
+        AlimtalkBatchRequest batchRequest = AlimtalkBatchRequest.builder()
+                .messages(chunk)
+                .allowDuplicates(false)
+                .build();
+
+        // 재시도 시에도 새 서명이 생성되도록 구독 시점에 헤더를 만든다
+        return acquire(ALIMTALK, senderKey, chunk.size())
+                .then(Mono.defer(() -> bizMessageWebClient.post()
+                        .uri("/messages/v4/send-many/detail")
+                        .header("Authorization", solapiRequestSigner.authorizationHeader())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(batchRequest)
+                        .retrieve()
+                        .onStatus(
+                                status -> status.is4xxClientError() || status.is5xxServerError(),
+                                response -> response.bodyToMono(String.class)
+                                        .flatMap(body -> {
+                                            log.error("Alimtalk batch API Error: {}", body);
+                                            return Mono.error(new KakaoApiException(
+                                                    "Failed to send alimtalk batch: " + body,
+                                                    response.statusCode().value()));
+                                        })
+                        )
+                        .bodyToMono(AlimtalkBatchResponse.class)
+                        .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(ALIMTALK)))
+                        .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(ALIMTALK)))))
+                .doOnSuccess(response ->
+                        log.info("Alimtalk batch sent: {} messages, {} failed",
+                                chunk.size(),
+                                response.getFailedMessageList() == null
+                                        ? 0 : response.getFailedMessageList().size()))
+                .doOnError(error ->
+                        log.error("Failed to send alimtalk batch of {} messages", chunk.size(), error));
+    }
+
+    /**
+     * 회로가 열려 있으면 발송 한도를 기다리거나 소모하지 않고 바로 실패한 뒤, 발송 한도를 획득
+     * (CircuitBreakerOperator 는 실제 호출에만 적용되므로, 먼저 확인하지 않으면 governor 대기 후에 거절되며
+     *  JDBC 모드에서는 공유 send_rate_window 의 허용량까지 낭비함)
+     * 확인에 쓴 permission 은 바로 반환하여 HALF_OPEN 시험 호출 수를 차지하지 않는다.
+     */
+    private Mono<Void> acquire(String name, String senderKey, int permits) {
+        return Mono.defer(() -> {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+            circuitBreaker.releasePermission();
+            return sendRateGovernor.acquire(rateKey(senderKey), permits);
+        });
+    }
 
-        Mac mac = Mac.getInstance("HmacSHA256");
-        SecretKeySpec secretKey = new SecretKeySpec(
-                bizApiSecret.getBytes(StandardCharsets.UTF_8),
-                "HmacSHA256");
-        mac.init(secretKey);
+    private String rateKey(String key) {
+        return key != null ? key : "default";
+    }
 
-        byte[] rawHmac = mac.doFinal(message.getBytes(StandardCharsets.UTF_8));
-        return HexFormat.of().formatHex(rawHmac);
+    private record FriendtalkChunk(List<String> receivers, KakaoResponse response, Throwable error) {
     }
 
 }
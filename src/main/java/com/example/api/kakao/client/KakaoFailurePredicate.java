@@ -0,0 +1,27 @@
+package com.example.api.kakao.client;
+
+import com.example.api.exception.KakaoApiException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+
+import java.util.function.Predicate;
+
+/**
+ * 서킷 브레이커 실패 판정
+ * - 요청 자체가 잘못된 4xx 응답은 공급자 장애가 아니므로 제외
+ * - 벌크헤드 거절은 호출이 나가지 않았으므로 제외
+ * - 그 외 5xx, 429, 타임아웃, 연결 오류는 실패로 기록
+ */
+public class KakaoFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof BulkheadFullException) {
+            return false;
+        }
+        if (throwable instanceof KakaoApiException kakaoApiException) {
+            return !kakaoApiException.isClientError();
+        }
+        return true;
+    }
+
+}
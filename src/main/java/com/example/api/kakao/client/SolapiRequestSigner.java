@@ -0,0 +1,164 @@
+package com.example.api.kakao.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Solapi HMAC-SHA256 인증 헤더 생성기
+ * - 키가 설정된 Mac을 한 번만 만들고 스레드별로 복제하여 재사용
+ *   (가상 스레드는 요청마다 새로 생성되므로 ThreadLocal 대신 공유 풀에서 빌려 사용)
+ * - salt는 ThreadLocalRandom 기반 128비트 hex 문자열
+ * - date 문자열은 초 단위로 캐시
+ * 헤더 문자열 외에는 요청마다 객체를 할당하지 않는다.
+ */
+@Component
+public class SolapiRequestSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final int SALT_LENGTH = 32;
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final int MAX_DATE_LENGTH = 32;
+    private static final byte[] SALT_SEPARATOR = ", salt=".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SIGNATURE_SEPARATOR = ", signature=".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] headerPrefix;
+    private final SecretKeySpec secretKey;
+    private final Mac prototype;
+    private final ThreadLocal<SigningContext> contexts;
+    private final Queue<SigningContext> virtualThreadContexts = new ConcurrentLinkedQueue<>();
+
+    private volatile CachedDate cachedDate = new CachedDate(Long.MIN_VALUE, new byte[0]);
+
+    public SolapiRequestSigner(@Value("${kakao.bizmessage.api-key}") String apiKey,
+                               @Value("${kakao.bizmessage.api-secret}") String apiSecret) {
+        this.headerPrefix = ("HMAC-SHA256 apiKey=" + apiKey + ", date=")
+                .getBytes(StandardCharsets.UTF_8);
+        this.secretKey = new SecretKeySpec(apiSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.prototype = newMac();
+        this.contexts = ThreadLocal.withInitial(() -> new SigningContext(cloneMac()));
+    }
+
+    /**
+     * Authorization 헤더 값 생성
+     * 형식: HMAC-SHA256 apiKey={key}, date={ISO-8601}, salt={salt}, signature={hex}
+     */
+    public String authorizationHeader() {
+        if (!Thread.currentThread().isVirtual()) {
+            return sign(contexts.get());
+        }
+        SigningContext context = virtualThreadContexts.poll();
+        if (context == null) {
+            context = new SigningContext(cloneMac());
+        }
+        try {
+            return sign(context);
+        } finally {
+            virtualThreadContexts.offer(context);
+        }
+    }
+
+    private String sign(SigningContext context) {
+        byte[] date = currentDate();
+        byte[] buffer = context.header;
+
+        int pos = append(buffer, 0, headerPrefix);
+        int dateStart = pos;
+        pos = append(buffer, pos, date);
+        pos = append(buffer, pos, SALT_SEPARATOR);
+        int saltStart = pos;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        pos = appendHex(buffer, pos, random.nextLong());
+        pos = appendHex(buffer, pos, random.nextLong());
+        pos = append(buffer, pos, SIGNATURE_SEPARATOR);
+
+        // 서명 대상은 date + salt 이며 헤더 버퍼의 해당 구간을 그대로 사용
+        Mac mac = context.mac;
+        mac.update(buffer, dateStart, date.length);
+        mac.update(buffer, saltStart, SALT_LENGTH);
+        try {
+            mac.doFinal(context.digest, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("Failed to sign Solapi request", e);
+        }
+
+        byte[] digest = context.digest;
+        for (byte b : digest) {
+            buffer[pos++] = HEX[(b >> 4) & 0x0f];
+            buffer[pos++] = HEX[b & 0x0f];
+        }
+
+        return new String(buffer, 0, pos, StandardCharsets.UTF_8);
+    }
+
+    private byte[] currentDate() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        CachedDate cached = cachedDate;
+        if (cached.epochSecond != epochSecond) {
+            byte[] formatted = DateTimeFormatter.ISO_INSTANT
+                    .format(Instant.ofEpochSecond(epochSecond))
+                    .getBytes(StandardCharsets.US_ASCII);
+            cached = new CachedDate(epochSecond, formatted);
+            cachedDate = cached;
+        }
+        return cached.value;
+    }
+
+    private static int append(byte[] buffer, int pos, byte[] value) {
+        System.arraycopy(value, 0, buffer, pos, value.length);
+        return pos + value.length;
+    }
+
+    private static int appendHex(byte[] buffer, int pos, long value) {
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            buffer[pos++] = HEX[(int) (value >>> shift) & 0x0f];
+        }
+        return pos;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize Solapi signer", e);
+        }
+    }
+
+    private Mac cloneMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            // 복제를 지원하지 않는 provider라면 스레드별로 새로 초기화
+            return newMac();
+        }
+    }
+
+    private final class SigningContext {
+
+        private final Mac mac;
+        private final byte[] digest = new byte[32];
+        private final byte[] header = new byte[headerPrefix.length + MAX_DATE_LENGTH
+                + SALT_SEPARATOR.length + SALT_LENGTH + SIGNATURE_SEPARATOR.length + SIGNATURE_LENGTH];
+
+        private SigningContext(Mac mac) {
+            this.mac = mac;
+        }
+    }
+
+    private record CachedDate(long epochSecond, byte[] value) {
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.example.api.kakao.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlimtalkBatchRequest {
+
+    @JsonProperty("messages")
+    private List<AlimtalkRequest> messages;  // 한 번의 요청으로 발송할 메시지 목록
+
+    @JsonProperty("allowDuplicates")
+    private Boolean allowDuplicates;  // 동일 수신번호 중복 허용 여부
+
+}
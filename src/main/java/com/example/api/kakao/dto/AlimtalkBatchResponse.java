@@ -0,0 +1,78 @@
+package com.example.api.kakao.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AlimtalkBatchResponse {
+
+    @JsonProperty("groupInfo")
+    private GroupInfo groupInfo;
+
+    @JsonProperty("messageList")
+    private List<MessageResult> messageList;  // 접수 성공 메시지
+
+    @JsonProperty("failedMessageList")
+    private List<MessageResult> failedMessageList;  // 접수 실패 메시지
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class GroupInfo {
+
+        @JsonProperty("groupId")
+        private String groupId;
+
+        @JsonProperty("count")
+        private Count count;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Count {
+
+        @JsonProperty("total")
+        private Integer total;
+
+        @JsonProperty("registeredSuccess")
+        private Integer registeredSuccess;
+
+        @JsonProperty("registeredFailed")
+        private Integer registeredFailed;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class MessageResult {
+
+        @JsonProperty("messageId")
+        private String messageId;
+
+        @JsonProperty("to")
+        private String to;
+
+        @JsonProperty("statusCode")
+        private String statusCode;
+
+        @JsonProperty("statusMessage")
+        private String statusMessage;
+
+        @JsonProperty("customFields")
+        private Map<String, String> customFields;
+    }
+
+}
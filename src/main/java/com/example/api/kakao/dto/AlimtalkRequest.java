@@ -1,5 +1,6 @@
 package com.example.api.kakao.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,6 +25,10 @@ public class AlimtalkRequest {
     @JsonProperty("kakaoOptions")
     private KakaoOptions kakaoOptions;
 
+    @JsonProperty("customFields")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, String> customFields;  // 응답에 그대로 돌려받는 사용자 정의 값 (다건 발송 결과 매칭용)
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -0,0 +1,76 @@
+package com.example.api.kakao.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 수신자를 나누어 보낸 친구톡 요청들의 합산 결과
+ * - 성공한 요청은 응답의 successful_receiver_uuids 를 성공으로, 나머지 수신자를 실패로 집계
+ *   (응답에 목록이 없으면 요청의 수신자 전체를 성공으로 간주)
+ * - 실패한 요청은 해당 수신자 전체를 실패로 집계하고 첫 번째 오류를 보관
+ */
+@Getter
+public class FriendtalkResult {
+
+    private final List<String> successfulReceiverUuids = new ArrayList<>();
+    private final List<String> failedReceiverUuids = new ArrayList<>();
+    private final List<String> requestIds = new ArrayList<>();
+    private int chunks;
+    private int failedChunks;
+
+    @JsonIgnore
+    private Throwable firstError;
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    private final List<String> successfulRequestIds = new ArrayList<>();
+
+    public void addResponse(List<String> receivers, KakaoResponse response) {
+        chunks++;
+        if (response != null && response.getRequestId() != null) {
+            requestIds.add(response.getRequestId());
+        }
+        String requestId = response != null ? response.getRequestId() : null;
+        List<String> successful = response != null ? response.getSuccessfulReceiverUuids() : null;
+        for (String receiver : receivers) {
+            if (successful == null || successful.contains(receiver)) {
+                successfulReceiverUuids.add(receiver);
+                successfulRequestIds.add(requestId);
+            } else {
+                failedReceiverUuids.add(receiver);
+            }
+        }
+    }
+
+    /**
+     * 성공한 수신자와 해당 요청 id
+     */
+    public void forEachSuccessful(BiConsumer<String, String> action) {
+        for (int i = 0; i < successfulReceiverUuids.size(); i++) {
+            action.accept(successfulReceiverUuids.get(i), successfulRequestIds.get(i));
+        }
+    }
+
+    public void addFailure(List<String> receivers, Throwable error) {
+        chunks++;
+        failedChunks++;
+        failedReceiverUuids.addAll(receivers);
+        if (firstError == null) {
+            firstError = error;
+        }
+    }
+
+    /**
+     * 모든 분할 요청이 실패했는지 여부
+     */
+    @JsonIgnore
+    public boolean isAllFailed() {
+        return chunks > 0 && failedChunks == chunks;
+    }
+
+}
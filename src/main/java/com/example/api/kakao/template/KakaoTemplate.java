@@ -0,0 +1,23 @@
+package com.example.api.kakao.template;
+
+import com.example.api.kakao.dto.AlimtalkRequest;
+import com.example.api.template.TemplatePlan;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기동 시 컴파일된 알림톡 템플릿
+ *
+ * @param code      Solapi 에 등록된 템플릿 코드
+ * @param name      템플릿 이름
+ * @param plan      #{var} 본문 렌더링 plan
+ * @param variables 선언된 치환 변수 이름
+ * @param buttons   기본 버튼 (요청에 버튼이 없을 때 사용)
+ */
+public record KakaoTemplate(String code,
+                            String name,
+                            TemplatePlan plan,
+                            Set<String> variables,
+                            List<AlimtalkRequest.Button> buttons) {
+}
@@ -0,0 +1,234 @@
+package com.example.api.kakao.template;
+
+import com.example.api.exception.CustomException;
+import com.example.api.kakao.dto.AlimtalkRequest;
+import com.example.api.template.TemplatePlan;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 알림톡 템플릿 저장소
+ * - 기동 시 {location}*.json 을 읽어 템플릿 코드 기준의 불변 Map 으로 색인
+ * - 본문의 #{var} 는 TemplatePlan 으로 미리 컴파일 (이스케이프 없음)
+ * - 본문에 쓰인 변수가 variables 에 선언되지 않았으면 기동 실패
+ * 요청 단계에서 템플릿/변수를 검증하므로 잘못된 요청은 공급자 호출 없이 400 으로 거부된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KakaoTemplateRegistry {
+
+    private static final String OPEN = "#{";
+    private static final String CLOSE = "}";
+    private static final Map<String, String> CODES_BY_ENUM_NAME = Arrays.stream(KakaoTemplateCode.values())
+            .collect(Collectors.toUnmodifiableMap(Enum::name, KakaoTemplateCode::getCode));
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${kakao.template.location:classpath:kakao-templates/}")
+    private String location;
+
+    private Map<String, KakaoTemplate> templates = Map.of();
+
+    @PostConstruct
+    public void load() {
+        Resource[] resources;
+        try {
+            resources = new PathMatchingResourcePatternResolver().getResources(location + "*.json");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list kakao templates in " + location, e);
+        }
+
+        Map<String, KakaoTemplate> loaded = new HashMap<>();
+        for (Resource resource : resources) {
+            KakaoTemplate template = compile(resource);
+            if (loaded.putIfAbsent(template.code(), template) != null) {
+                throw new IllegalStateException("Duplicate kakao template code: " + template.code());
+            }
+        }
+        templates = Map.copyOf(loaded);
+        log.info("Loaded {} kakao templates from {}", templates.size(), location);
+    }
+
+    /**
+     * 템플릿 조회
+     * Solapi 템플릿 코드(WELCOME_001) 와 KakaoTemplateCode 이름(WELCOME_TEMPLATE) 을 모두 받는다.
+     */
+    public KakaoTemplate get(String templateCode) {
+        KakaoTemplate template = find(templateCode);
+        if (template == null) {
+            throw new CustomException("Unknown kakao template: " + templateCode,
+                    "KAKAO_TEMPLATE_NOT_FOUND", 400);
+        }
+        return template;
+    }
+
+    public KakaoTemplate get(KakaoTemplateCode templateCode) {
+        return get(templateCode.getCode());
+    }
+
+    /**
+     * 템플릿 조회 후 선언된 변수가 모두 있는지, 선언되지 않은 변수가 없는지 검증
+     */
+    public KakaoTemplate validate(String templateCode, Map<String, String> variables) {
+        KakaoTemplate template = get(templateCode);
+        if (accepts(template, variables)) {
+            return template;
+        }
+        Set<String> provided = variables != null ? variables.keySet() : Set.of();
+
+        Set<String> missing = new TreeSet<>();
+        for (String variable : template.variables()) {
+            String value = variables != null ? variables.get(variable) : null;
+            if (value == null) {
+                missing.add(variable);
+            }
+        }
+        Set<String> unknown = new TreeSet<>();
+        for (String variable : provided) {
+            if (!template.variables().contains(variable)) {
+                unknown.add(variable);
+            }
+        }
+        if (!missing.isEmpty() || !unknown.isEmpty()) {
+            throw new CustomException("Invalid variables for kakao template " + template.code()
+                    + (missing.isEmpty() ? "" : " - missing: " + missing)
+                    + (unknown.isEmpty() ? "" : " - unknown: " + unknown),
+                    "KAKAO_TEMPLATE_VARIABLES", 400);
+        }
+        return template;
+    }
+
+    /**
+     * 선언된 변수가 모두 있고 선언되지 않은 변수가 없는지 여부 (예외를 만들지 않는 대량 발송용 검사)
+     */
+    public boolean accepts(KakaoTemplate template, Map<String, String> variables) {
+        if (variables == null) {
+            return template.variables().isEmpty();
+        }
+        if (variables.size() != template.variables().size()) {
+            return false;
+        }
+        for (String variable : template.variables()) {
+            if (variables.get(variable) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 발송 로그용 본문 렌더링 (템플릿을 모르거나 변수가 부족하면 null)
+     */
+    public String renderOrNull(String templateCode, Map<String, String> variables) {
+        KakaoTemplate template = find(templateCode);
+        if (template == null || variables == null || !variables.keySet().containsAll(template.variables())) {
+            return null;
+        }
+        return template.plan().render(variables);
+    }
+
+    private KakaoTemplate find(String templateCode) {
+        if (templateCode == null) {
+            return null;
+        }
+        KakaoTemplate template = templates.get(templateCode);
+        if (template == null) {
+            String code = CODES_BY_ENUM_NAME.get(templateCode);
+            template = code != null ? templates.get(code) : null;
+        }
+        return template;
+    }
+
+    private KakaoTemplate compile(Resource resource) {
+        TemplateDefinition definition;
+        try (InputStream in = resource.getInputStream()) {
+            definition = objectMapper.readValue(in, TemplateDefinition.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load kakao template " + resource.getFilename(), e);
+        }
+        if (definition.code == null || definition.content == null) {
+            throw new IllegalStateException("Kakao template " + resource.getFilename()
+                    + " requires template_code and content");
+        }
+
+        TemplatePlan plan = TemplatePlan.compile(definition.code, definition.content,
+                OPEN, CLOSE, TemplatePlan.Escaping.NONE);
+        Set<String> variables = definition.variables != null ? definition.variables.keySet() : Set.of();
+        if (!variables.containsAll(plan.slotNames())) {
+            Set<String> undeclared = new TreeSet<>(plan.slotNames());
+            undeclared.removeAll(variables);
+            throw new IllegalStateException("Kakao template " + definition.code
+                    + " uses undeclared variables: " + undeclared);
+        }
+
+        List<AlimtalkRequest.Button> buttons = definition.buttons == null ? List.of()
+                : definition.buttons.stream().map(ButtonDefinition::toButton).toList();
+        return new KakaoTemplate(definition.code, definition.name, plan, Set.copyOf(variables), buttons);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class TemplateDefinition {
+
+        @JsonProperty("template_code")
+        public String code;
+
+        @JsonProperty("template_name")
+        public String name;
+
+        @JsonProperty("content")
+        public String content;
+
+        @JsonProperty("buttons")
+        public List<ButtonDefinition> buttons;
+
+        @JsonProperty("variables")
+        public LinkedHashMap<String, String> variables;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class ButtonDefinition {
+
+        @JsonProperty("type")
+        public String type;
+
+        @JsonProperty("name")
+        public String name;
+
+        @JsonProperty("link_mobile")
+        public String linkMobile;
+
+        @JsonProperty("link_pc")
+        public String linkPc;
+
+        AlimtalkRequest.Button toButton() {
+            return AlimtalkRequest.Button.builder()
+                    .type(type)
+                    .name(name)
+                    .linkMobile(linkMobile)
+                    .linkPc(linkPc)
+                    .build();
+        }
+    }
+
+}
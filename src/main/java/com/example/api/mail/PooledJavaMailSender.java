@@ -0,0 +1,166 @@
+package com.example.api.mail;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SMTP 커넥션 풀을 사용하는 JavaMailSender
+ * - 인증까지 끝난 Transport 를 최대 pool-size 개 유지하며 재사용 (TCP + STARTTLS + AUTH 핸드셰이크 생략)
+ * - send(MimeMessage...) 한 번의 호출은 하나의 세션으로 모든 메시지를 연속 발송
+ * - max-idle 이상 쉬었거나 끊긴 커넥션은 폐기하고 새로 연결
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private final Semaphore permits;
+    private final BlockingQueue<PooledTransport> idle;
+    private final long acquireTimeoutMillis;
+    private final long maxIdleMillis;
+
+    public PooledJavaMailSender(int poolSize, Duration acquireTimeout, Duration maxIdle) {
+        this.permits = new Semaphore(poolSize);
+        this.idle = new ArrayBlockingQueue<>(poolSize);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+        this.maxIdleMillis = maxIdle.toMillis();
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        Transport transport = borrow();
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                MimeMessage mimeMessage = mimeMessages[i];
+                try {
+                    send(transport, mimeMessage);
+                } catch (MessagingException e) {
+                    failedMessages.put(original(mimeMessages, originalMessages, i), e);
+                    // 수신자 오류가 아니라 연결이 끊긴 경우 남은 메시지를 위해 다시 연결
+                    if (!(e instanceof SendFailedException) && !transport.isConnected()) {
+                        closeQuietly(transport);
+                        transport = null;
+                        try {
+                            transport = connect();
+                        } catch (MailException connectError) {
+                            for (int j = i + 1; j < mimeMessages.length; j++) {
+                                failedMessages.put(original(mimeMessages, originalMessages, j), connectError);
+                            }
+                            break;
+                        }
+                    }
+                }
+            }
+        } finally {
+            giveBack(transport);
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    private static Object original(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages, int index) {
+        return (originalMessages != null ? originalMessages[index] : mimeMessages[index]);
+    }
+
+    private void send(Transport transport, MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            // saveChanges 가 새로 만든 Message-ID 대신 지정한 값을 유지
+            mimeMessage.setHeader("Message-ID", messageId);
+        }
+        Address[] addresses = mimeMessage.getAllRecipients();
+        transport.sendMessage(mimeMessage, (addresses != null ? addresses : new Address[0]));
+    }
+
+    private Transport borrow() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("Timed out waiting for a pooled SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for a pooled SMTP connection", e);
+        }
+
+        try {
+            PooledTransport pooled;
+            while ((pooled = idle.poll()) != null) {
+                if (System.currentTimeMillis() - pooled.lastUsed() < maxIdleMillis
+                        && pooled.transport().isConnected()) {
+                    return pooled.transport();
+                }
+                closeQuietly(pooled.transport());
+            }
+            return connect();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void giveBack(Transport transport) {
+        try {
+            if (transport != null && (!transport.isConnected()
+                    || !idle.offer(new PooledTransport(transport, System.currentTimeMillis())))) {
+                closeQuietly(transport);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Transport connect() {
+        try {
+            return connectTransport();
+        } catch (AuthenticationFailedException e) {
+            throw new MailAuthenticationException(e);
+        } catch (MessagingException e) {
+            throw new MailSendException("Failed to connect to SMTP server", e);
+        }
+    }
+
+    private void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP transport", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            closeQuietly(pooled.transport());
+        }
+    }
+
+    private record PooledTransport(Transport transport, long lastUsed) {
+    }
+
+}
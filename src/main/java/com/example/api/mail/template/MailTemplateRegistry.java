@@ -0,0 +1,116 @@
+package com.example.api.mail.template;
+
+import com.example.api.template.TemplatePlan;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메일 HTML 템플릿 저장소
+ * - 기동 시 {location}*.html 을 한 번 읽어 TemplatePlan 으로 컴파일 (파일명 = 템플릿 이름)
+ * - {{name}} 슬롯 값은 HTML 이스케이프
+ * - 렌더링은 스레드별로 재사용하는 버퍼에 기록 (가상 스레드는 재사용되지 않으므로 호출마다 새 버퍼)
+ * - hot-reload=true 이면 렌더링 시 파일 변경을 확인하여 다시 컴파일 (개발용)
+ */
+@Component
+@Slf4j
+public class MailTemplateRegistry {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    @Value("${mail.template.location:classpath:mail-templates/}")
+    private String location;
+
+    @Value("${mail.template.hot-reload:false}")
+    private boolean hotReload;
+
+    @PostConstruct
+    public void load() {
+        Resource[] resources;
+        try {
+            resources = new PathMatchingResourcePatternResolver().getResources(location + "*.html");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list mail templates in " + location, e);
+        }
+        for (Resource resource : resources) {
+            String filename = resource.getFilename();
+            String name = filename.substring(0, filename.length() - ".html".length());
+            templates.put(name, compile(name, resource));
+        }
+        log.info("Loaded {} mail templates from {}", templates.size(), location);
+    }
+
+    public boolean contains(String name) {
+        return templates.containsKey(name);
+    }
+
+    public String render(String name, Map<String, ?> variables) {
+        TemplatePlan plan = plan(name);
+        if (Thread.currentThread().isVirtual()) {
+            return plan.render(variables);
+        }
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        try {
+            plan.render(variables, buffer);
+            return buffer.toString();
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                buffers.remove();
+            }
+        }
+    }
+
+    private TemplatePlan plan(String name) {
+        CompiledTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown mail template: " + name);
+        }
+        if (hotReload && template.isStale()) {
+            template = compile(name, template.resource());
+            templates.put(name, template);
+            log.info("Reloaded mail template: {}", name);
+        }
+        return template.plan();
+    }
+
+    private CompiledTemplate compile(String name, Resource resource) {
+        try {
+            String source = resource.getContentAsString(StandardCharsets.UTF_8);
+            TemplatePlan plan = TemplatePlan.compile(name, source, OPEN, CLOSE, TemplatePlan.Escaping.HTML);
+            return new CompiledTemplate(plan, resource, lastModified(resource));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load mail template " + name, e);
+        }
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private record CompiledTemplate(TemplatePlan plan, Resource resource, long lastModified) {
+
+        boolean isStale() {
+            return lastModified(resource) != lastModified;
+        }
+    }
+
+}
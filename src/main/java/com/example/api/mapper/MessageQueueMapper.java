@@ -0,0 +1,48 @@
+package com.example.api.mapper;
+
+import com.example.api.entity.QueuedMessage;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface MessageQueueMapper {
+
+    int insert(QueuedMessage message);
+
+    /**
+     * 커밋 시점에 LISTEN 중인 워커에게 알림
+     */
+    void notify(@Param("channel") String channel, @Param("payload") String payload);
+
+    /**
+     * 소비 가능한 메시지를 limit 건 가져오면서 visibility timeout 동안 숨김
+     * (다른 노드가 잠근 행은 건너뜀)
+     */
+    List<QueuedMessage> claim(@Param("messageType") String messageType,
+                              @Param("limit") int limit,
+                              @Param("visibilityTimeoutSeconds") long visibilityTimeoutSeconds);
+
+    /**
+     * 처리 직전에 visibility timeout 을 다시 연장
+     * 그 사이 다른 워커가 다시 가져갔으면(attempts 변경) 0 을 반환
+     */
+    int extendVisibility(@Param("id") Long id,
+                         @Param("attempts") int attempts,
+                         @Param("visibilityTimeoutSeconds") long visibilityTimeoutSeconds);
+
+    int delete(@Param("id") Long id);
+
+    int retryLater(@Param("id") Long id,
+                   @Param("delaySeconds") long delaySeconds,
+                   @Param("error") String error);
+
+    int markDead(@Param("id") Long id, @Param("error") String error);
+
+    /**
+     * 소비 대기(READY) 메시지 수, limit 건까지만 센다
+     */
+    long countReady(@Param("limit") long limit);
+
+}
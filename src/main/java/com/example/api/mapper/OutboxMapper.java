@@ -0,0 +1,35 @@
+package com.example.api.mapper;
+
+import com.example.api.entity.NotificationOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface OutboxMapper {
+
+    int insert(NotificationOutbox outbox);
+
+    /**
+     * 재시도 시각이 된 PENDING 행을 오래된 순으로 limit 건 잠금 (다른 노드가 잠근 행은 건너뜀)
+     */
+    List<NotificationOutbox> claim(@Param("limit") int limit);
+
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    int retryLater(@Param("id") Long id,
+                   @Param("delaySeconds") long delaySeconds,
+                   @Param("error") String error);
+
+    /**
+     * 재시도 횟수를 다 쓴 행을 DEAD 로 옮겨 relay 대상에서 제외 (행은 조사용으로 남김)
+     */
+    int markDead(@Param("id") Long id, @Param("error") String error);
+
+    /**
+     * relay 대기 중인(PENDING) 행 수, limit 건까지만 센다
+     */
+    long countPending(@Param("limit") long limit);
+
+}
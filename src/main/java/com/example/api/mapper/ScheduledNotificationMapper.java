@@ -0,0 +1,44 @@
+package com.example.api.mapper;
+
+import com.example.api.entity.ScheduledNotification;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface ScheduledNotificationMapper {
+
+    int insert(ScheduledNotification notification);
+
+    ScheduledNotification findById(@Param("id") Long id);
+
+    /**
+     * until 이전에 발송할 PENDING 행(또는 lease 가 만료된 LOADED 행)을 owner 가 가져감
+     * (다른 노드가 잠근 행은 건너뜀)
+     */
+    List<ScheduledNotification> claimDue(@Param("until") LocalDateTime until,
+                                         @Param("staleBefore") LocalDateTime staleBefore,
+                                         @Param("owner") String owner,
+                                         @Param("now") LocalDateTime now,
+                                         @Param("limit") int limit);
+
+    /**
+     * owner 가 가져간 행 중 남아 있는(취소되지 않은) 행을 삭제하고 반환 (발송 트랜잭션 안에서 호출)
+     */
+    List<ScheduledNotification> takeLoaded(@Param("ids") Collection<Long> ids,
+                                           @Param("owner") String owner);
+
+    /**
+     * 발송 전인 예약을 삭제 (휠에 올라간 항목은 만료 시 takeLoaded 에서 행이 없으므로 발송되지 않음)
+     */
+    int cancel(@Param("id") Long id);
+
+    /**
+     * 종료 시 owner 가 가져간 행을 다른 노드가 바로 가져갈 수 있도록 되돌림
+     */
+    int releaseOwned(@Param("owner") String owner);
+
+}
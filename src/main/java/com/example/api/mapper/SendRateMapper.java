@@ -0,0 +1,19 @@
+package com.example.api.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface SendRateMapper {
+
+    /**
+     * 윈도우 사용량을 requested 만큼 증가시키고 증가 후 사용량을 반환
+     * (한도를 넘는 요청분도 더해지므로 한도보다 클 수 있으며, 받은 양은 호출하는 쪽에서 증가 전 사용량으로 계산)
+     */
+    int lease(@Param("senderKey") String senderKey,
+              @Param("windowStart") long windowStart,
+              @Param("requested") int requested);
+
+    int deleteBefore(@Param("windowStart") long windowStart);
+
+}
@@ -2,8 +2,11 @@ package com.example.api.mapper;
 
 import com.example.api.entity.User;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -21,6 +24,29 @@ public interface UserMapper {
 
     List<User> findByStatus(@Param("status") String status);
 
+    /**
+     * id 기준 keyset 페이지 (afterId 보다 큰 id 를 limit 건)
+     */
+    List<User> findByStatusAfterId(@Param("status") String status,
+                                   @Param("afterId") long afterId,
+                                   @Param("limit") int limit);
+
+    /**
+     * (created_at, id) 내림차순 keyset 페이지
+     * cursorCreatedAt 이 null 이면 첫 페이지, 아니면 (cursorCreatedAt, cursorId) 보다 앞선 행부터 limit 건.
+     * columns 는 UserField 의 column 값만 허용 (SELECT 목록에 그대로 들어감)
+     */
+    List<User> findPage(@Param("columns") Collection<String> columns,
+                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                        @Param("cursorId") Long cursorId,
+                        @Param("limit") int limit);
+
+    /**
+     * 전체 사용자를 id 순으로 스트리밍 (fetchSize 단위로 서버에서 가져옴)
+     * 트랜잭션 안에서 소비해야 하며, 다 읽거나 close 하면 커서가 닫힌다.
+     */
+    Cursor<User> streamAll(@Param("columns") Collection<String> columns);
+
     void insert(User user);
 
     void update(User user);
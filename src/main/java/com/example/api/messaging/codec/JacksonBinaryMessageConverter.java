@@ -0,0 +1,17 @@
+package com.example.api.messaging.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.support.converter.AbstractJackson2MessageConverter;
+import org.springframework.util.MimeType;
+
+/**
+ * Jackson 바이너리 포맷(Smile, CBOR) 메시지 컨버터
+ * JSON 컨버터와 동일하게 __TypeId__ 헤더로 타입을 결정한다.
+ */
+public class JacksonBinaryMessageConverter extends AbstractJackson2MessageConverter {
+
+    public JacksonBinaryMessageConverter(ObjectMapper objectMapper, MimeType contentType) {
+        super(objectMapper, contentType, "*");
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.example.api.messaging.codec;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * LZ4 압축 래퍼
+ * - 직렬화 결과가 threshold 바이트 이상이면 LZ4 블록으로 압축하고 content-encoding=lz4 로 표시
+ * - 수신 시 content-encoding 이 lz4 인 메시지만 해제하므로 압축되지 않은 기존 메시지도 그대로 처리
+ */
+public class Lz4CompressingMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_ENCODING = "lz4";
+    static final String ORIGINAL_LENGTH_HEADER = "x-original-length";
+    static final String ORIGINAL_ENCODING_HEADER = "x-original-encoding";
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final MessageConverter delegate;
+    private final int threshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+    public Lz4CompressingMessageConverter(MessageConverter delegate, int threshold) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        Message message = delegate.toMessage(object, messageProperties);
+        byte[] body = message.getBody();
+        if (body.length < threshold) {
+            return message;
+        }
+
+        byte[] compressed = compressor.compress(body);
+        if (compressed.length >= body.length) {
+            return message;
+        }
+
+        MessageProperties properties = message.getMessageProperties();
+        if (properties.getContentEncoding() != null) {
+            properties.setHeader(ORIGINAL_ENCODING_HEADER, properties.getContentEncoding());
+        }
+        properties.setHeader(ORIGINAL_LENGTH_HEADER, body.length);
+        properties.setContentEncoding(CONTENT_ENCODING);
+        properties.setContentLength(compressed.length);
+        return new Message(compressed, properties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        if (!CONTENT_ENCODING.equals(properties.getContentEncoding())) {
+            return delegate.fromMessage(message);
+        }
+
+        Object originalLength = properties.getHeader(ORIGINAL_LENGTH_HEADER);
+        if (!(originalLength instanceof Number length)) {
+            throw new MessageConversionException("Missing " + ORIGINAL_LENGTH_HEADER + " header on lz4 message");
+        }
+
+        byte[] body = decompressor.decompress(message.getBody(), length.intValue());
+        Object originalEncoding = properties.getHeader(ORIGINAL_ENCODING_HEADER);
+        long compressedLength = properties.getContentLength();
+        try {
+            properties.setContentEncoding(originalEncoding != null ? originalEncoding.toString() : null);
+            properties.setContentLength(body.length);
+            return delegate.fromMessage(new Message(body, properties));
+        } finally {
+            // 재시도 큐로 재발행될 수 있으므로 원본 메시지의 속성은 압축 상태로 되돌린다
+            properties.setContentEncoding(CONTENT_ENCODING);
+            properties.setContentLength(compressedLength);
+        }
+    }
+
+}
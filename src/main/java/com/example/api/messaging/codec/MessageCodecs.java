@@ -0,0 +1,65 @@
+package com.example.api.messaging.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.util.MimeType;
+
+/**
+ * AMQP 메시지 코덱 구성
+ * - 수신: content-type 으로 JSON / Smile / CBOR 컨버터를 선택 (롤아웃 중 큐에 남은 JSON 메시지도 처리)
+ * - 발신: format 으로 지정한 포맷으로 직렬화
+ * - compressionThreshold 가 0 이상이면 해당 크기 이상의 메시지를 LZ4 로 압축
+ */
+public final class MessageCodecs {
+
+    public static final String JSON = "json";
+    public static final String SMILE = "smile";
+    public static final String CBOR = "cbor";
+
+    public static final MimeType SMILE_CONTENT_TYPE = MimeType.valueOf("application/x-jackson-smile");
+    public static final MimeType CBOR_CONTENT_TYPE = MimeType.valueOf("application/cbor");
+
+    private MessageCodecs() {
+    }
+
+    public static MessageConverter messageConverter(String format, int compressionThreshold) {
+        Jackson2JsonMessageConverter json = new Jackson2JsonMessageConverter();
+        JacksonBinaryMessageConverter smile = new JacksonBinaryMessageConverter(
+                SmileMapper.builder()
+                        .findAndAddModules()
+                        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                        .build(),
+                SMILE_CONTENT_TYPE);
+        JacksonBinaryMessageConverter cbor = new JacksonBinaryMessageConverter(
+                CBORMapper.builder()
+                        .findAndAddModules()
+                        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                        .build(),
+                CBOR_CONTENT_TYPE);
+
+        MessageConverter outbound = switch (format) {
+            case JSON -> json;
+            case SMILE -> smile;
+            case CBOR -> cbor;
+            default -> throw new IllegalArgumentException("Unsupported message format: " + format);
+        };
+
+        // 발신 메시지는 content-type 이 지정되지 않으므로 기본 컨버터(outbound)로 직렬화되고,
+        // 수신 메시지는 content-type 에 맞는 컨버터로 역직렬화된다.
+        ContentTypeDelegatingMessageConverter converter = new ContentTypeDelegatingMessageConverter(outbound);
+        converter.addDelegate(MessageProperties.CONTENT_TYPE_JSON, json);
+        converter.addDelegate(SMILE_CONTENT_TYPE.toString(), smile);
+        converter.addDelegate(CBOR_CONTENT_TYPE.toString(), cbor);
+
+        if (compressionThreshold < 0) {
+            return converter;
+        }
+        return new Lz4CompressingMessageConverter(converter, compressionThreshold);
+    }
+
+}
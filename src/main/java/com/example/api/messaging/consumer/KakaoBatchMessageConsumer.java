@@ -0,0 +1,219 @@
+package com.example.api.messaging.consumer;
+
+import com.example.api.exception.KakaoApiException;
+import com.example.api.kakao.dto.AlimtalkBatchResponse;
+import com.example.api.kakao.dto.AlimtalkRequest;
+import com.example.api.messaging.dto.KakaoMessage;
+import com.example.api.messaging.retry.RetryRouter;
+import com.example.api.service.KakaoService;
+import com.rabbitmq.client.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카카오 큐 배치 소비 (rabbitmq.kakao.batch.enabled=true, 기본값)
+ * - 최대 batch.size 건 또는 batch.receive-timeout 동안 모인 메시지를 한 번에 수신
+ * - 알림톡은 발신 프로필/템플릿 별로 묶어 그룹당 한 번의 다건 발송 API 호출
+ * - 다건 발송 응답의 메시지별 결과에 따라 delivery 단위로 ack 또는 재시도/parking
+ *   (응답에 결과가 없는 메시지도 재시도)
+ */
+@Component
+@ConditionalOnClass(RabbitTemplate.class)
+@ConditionalOnExpression("'${spring.rabbitmq.host:}' != '' and ${rabbitmq.kakao.batch.enabled:true}")
+@RequiredArgsConstructor
+@Slf4j
+public class KakaoBatchMessageConsumer {
+
+    private static final String DELIVERY_TAG_FIELD = "deliveryTag";
+
+    private final KakaoService kakaoService;
+    private final RetryRouter retryRouter;
+    private final MessageConverter messageConverter;
+
+    @Value("${rabbitmq.queue.kakao}")
+    private String kakaoQueue;
+
+    /**
+     * 발송은 비동기로 동시에 진행하고, 배치의 결과가 모두 모이면 리스너 스레드에서 delivery 단위로 정산한다.
+     * Channel 은 스레드 안전하지 않고 리스너가 반환된 뒤에는 컨테이너가 같은 채널을 사용하므로
+     * ack/nack 와 재발행을 Reactor 스레드에서 하지 않는다.
+     */
+    @RabbitListener(queues = "${rabbitmq.queue.kakao}",
+            containerFactory = "kakaoBatchListenerContainerFactory")
+    public void receiveKakaoMessages(List<Message> messages, Channel channel) {
+        log.info("Received {} kakao messages from queue", messages.size());
+
+        List<Outcome> outcomes = new ArrayList<>(messages.size());
+        List<Mono<List<Outcome>>> dispatches = new ArrayList<>();
+        Map<String, List<Delivery>> alimtalkGroups = new LinkedHashMap<>();
+
+        for (Message amqpMessage : messages) {
+            KakaoMessage message;
+            try {
+                message = (KakaoMessage) messageConverter.fromMessage(amqpMessage);
+            } catch (RuntimeException e) {
+                outcomes.add(new Outcome(amqpMessage, e));
+                continue;
+            }
+
+            if ("ALIMTALK".equals(message.getMessageType())) {
+                AlimtalkRequest request;
+                try {
+                    request = kakaoService.buildAlimtalkRequest(message);
+                } catch (RuntimeException e) {
+                    outcomes.add(new Outcome(amqpMessage, e));
+                    continue;
+                }
+                request.setCustomFields(Map.of(DELIVERY_TAG_FIELD, String.valueOf(deliveryTag(amqpMessage))));
+                String groupKey = request.getKakaoOptions().getSenderKey() + ":" + message.getTemplateCode();
+                alimtalkGroups.computeIfAbsent(groupKey, key -> new ArrayList<>())
+                        .add(new Delivery(amqpMessage, request));
+            } else {
+                dispatches.add(kakaoService.dispatchQueuedMessage(message)
+                        .thenReturn(List.of(new Outcome(amqpMessage, null)))
+                        .onErrorResume(error -> Mono.just(List.of(new Outcome(amqpMessage, error)))));
+            }
+        }
+
+        alimtalkGroups.forEach((groupKey, deliveries) -> dispatches.add(dispatchGroup(groupKey, deliveries)));
+
+        List<Outcome> dispatched = Flux.merge(dispatches)
+                .flatMapIterable(results -> results)
+                .collectList()
+                .block();
+        if (dispatched != null) {
+            outcomes.addAll(dispatched);
+        }
+        outcomes.forEach(outcome -> settle(channel, outcome));
+    }
+
+    private Mono<List<Outcome>> dispatchGroup(String groupKey, List<Delivery> deliveries) {
+        Map<String, Delivery> pending = new LinkedHashMap<>();
+        deliveries.forEach(delivery ->
+                pending.put(String.valueOf(deliveryTag(delivery.message())), delivery));
+
+        List<AlimtalkRequest> requests = deliveries.stream()
+                .map(Delivery::request)
+                .toList();
+
+        log.debug("Dispatching alimtalk group {} with {} messages", groupKey, requests.size());
+
+        List<Outcome> outcomes = new ArrayList<>(deliveries.size());
+        return kakaoService.dispatchAlimtalkBatch(requests)
+                .doOnNext(response -> match(response, pending, outcomes))
+                .then(Mono.fromSupplier(() -> {
+                    // 응답에 결과가 없는 delivery 는 접수 여부를 알 수 없으므로 성공으로 보지 않고 재시도
+                    if (!pending.isEmpty()) {
+                        log.warn("Alimtalk batch response for group {} has no result for {} of {} messages",
+                                groupKey, pending.size(), deliveries.size());
+                        pending.values().forEach(delivery -> outcomes.add(new Outcome(delivery.message(),
+                                new KakaoApiException("No result in alimtalk batch response"))));
+                        pending.clear();
+                    }
+                    return outcomes;
+                }))
+                .onErrorResume(error -> {
+                    log.error("Alimtalk batch for group {} failed", groupKey, error);
+                    pending.values().forEach(delivery -> outcomes.add(new Outcome(delivery.message(), error)));
+                    pending.clear();
+                    return Mono.just(outcomes);
+                });
+    }
+
+    /**
+     * 분할 요청 하나의 응답을 delivery 와 매칭하여 성공과 실패 결과를 기록
+     */
+    private void match(AlimtalkBatchResponse response, Map<String, Delivery> pending, List<Outcome> outcomes) {
+        if (response.getMessageList() != null) {
+            response.getMessageList().forEach(result -> {
+                Delivery delivery = resolve(result, pending);
+                if (delivery != null) {
+                    outcomes.add(new Outcome(delivery.message(), null));
+                }
+            });
+        }
+        if (response.getFailedMessageList() != null) {
+            response.getFailedMessageList().forEach(result -> {
+                Delivery delivery = resolve(result, pending);
+                if (delivery != null) {
+                    // 다건 발송 접수 실패는 번호/템플릿 검증 오류이므로 재시도하지 않음
+                    outcomes.add(new Outcome(delivery.message(), new KakaoApiException(
+                            "Alimtalk rejected: " + result.getStatusCode() + " " + result.getStatusMessage(),
+                            400)));
+                }
+            });
+        }
+    }
+
+    private Delivery resolve(AlimtalkBatchResponse.MessageResult result, Map<String, Delivery> pending) {
+        if (result.getCustomFields() != null) {
+            Delivery delivery = pending.remove(result.getCustomFields().get(DELIVERY_TAG_FIELD));
+            if (delivery != null) {
+                return delivery;
+            }
+        }
+        // customFields 가 없는 응답은 수신번호로 매칭
+        Iterator<Delivery> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            Delivery delivery = iterator.next();
+            if (delivery.request().getRecipient() != null
+                    && delivery.request().getRecipient().equals(result.getTo())) {
+                iterator.remove();
+                return delivery;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 성공은 ack, 실패는 재시도 단계 큐 또는 parking 큐로 재발행한 뒤 ack (재발행 실패 시 requeue)
+     */
+    private void settle(Channel channel, Outcome outcome) {
+        Message message = outcome.message();
+        try {
+            if (outcome.error() != null) {
+                try {
+                    retryRouter.route(message, kakaoQueue, outcome.error());
+                } catch (RuntimeException e) {
+                    log.error("Failed to route kakao message {}, requeueing", deliveryTag(message), e);
+                    channel.basicNack(deliveryTag(message), false, true);
+                    return;
+                }
+            }
+            channel.basicAck(deliveryTag(message), false);
+        } catch (IOException e) {
+            log.error("Failed to settle kakao message {}", deliveryTag(message), e);
+        }
+    }
+
+    private long deliveryTag(Message message) {
+        return message.getMessageProperties().getDeliveryTag();
+    }
+
+    private record Delivery(Message message, AlimtalkRequest request) {
+    }
+
+    /**
+     * 발송 결과 (error 가 null 이면 성공)
+     */
+    private record Outcome(Message message, Throwable error) {
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.example.api.messaging.consumer;
+
+import com.example.api.messaging.dto.KakaoMessage;
+import com.example.api.messaging.retry.RetryRouter;
+import com.example.api.service.KakaoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 카카오 큐 단건 소비 (rabbitmq.kakao.batch.enabled=false)
+ */
+@Component
+@ConditionalOnClass(RabbitTemplate.class)
+@ConditionalOnExpression("'${spring.rabbitmq.host:}' != '' and !${rabbitmq.kakao.batch.enabled:true}")
+@RequiredArgsConstructor
+@Slf4j
+public class KakaoMessageConsumer {
+
+    private final KakaoService kakaoService;
+    private final RetryRouter retryRouter;
+
+    @Value("${rabbitmq.queue.kakao}")
+    private String kakaoQueue;
+
+    /**
+     * 카카오 메시지 수신 (수동 ack)
+     * 반환된 Mono 가 완료되면 ack 된다. 발송 실패 시 재시도 단계 큐 또는 parking 큐로
+     * 재발행한 뒤 ack 하므로 메시지가 유실되지 않고, 실패한 공급자를 즉시 다시 호출하지도 않는다.
+     * 미확인 메시지 수는 컨테이너 prefetch(rabbitmq.kakao.inflight-window)로 제한되므로
+     * Solapi 지연이 그대로 브로커 쪽 배압으로 전달된다.
+     */
+    @RabbitListener(queues = "${rabbitmq.queue.kakao}",
+            containerFactory = "kakaoListenerContainerFactory")
+    public Mono<Void> receiveKakaoMessage(KakaoMessage message, Message amqpMessage) {
+        log.info("Received kakao message from queue: {}", message);
+        return kakaoService.dispatchQueuedMessage(message)
+                .doOnSuccess(response ->
+                        log.info("Kakao message sent from queue: {}", response))
+                .then()
+                .onErrorResume(error -> {
+                    log.error("Failed to send kakao message from queue", error);
+                    // 재발행은 블로킹 I/O 이므로 Netty 이벤트 루프가 아닌 별도 스케줄러에서 수행
+                    return Mono.fromRunnable(() -> retryRouter.route(amqpMessage, kakaoQueue, error))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .then();
+                });
+    }
+
+}
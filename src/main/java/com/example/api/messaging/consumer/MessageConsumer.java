@@ -1,22 +1,25 @@
 package com.example.api.messaging.consumer;
 
-import com.example.api.kakao.client.KakaoApiClient;
-import com.example.api.kakao.dto.AlimtalkRequest;
-import com.example.api.kakao.dto.FriendtalkRequest;
 import com.example.api.messaging.dto.EmailMessage;
-import com.example.api.messaging.dto.KakaoMessage;
+import com.example.api.messaging.retry.RetryRouter;
 import com.example.api.service.EmailService;
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Component
 @ConditionalOnClass(RabbitTemplate.class)
@@ -26,103 +29,82 @@ import java.util.stream.Collectors;
 public class MessageConsumer {
 
     private final EmailService emailService;
-    private final KakaoApiClient kakaoApiClient;
-
-    @Value("${kakao.api.sender-key}")
-    private String senderKey;
+    private final RetryRouter retryRouter;
+    private final MessageConverter messageConverter;
+
+    @Value("${rabbitmq.queue.email}")
+    private String emailQueue;
+
+    /**
+     * 이메일 배치 소비
+     * 모인 메시지를 하나의 SMTP 세션으로 발송하고, delivery 단위로 ack 하거나 실패한 메시지는 재시도/parking 큐로 보낸다.
+     * 재발행이 실패해도 해당 delivery 만 requeue 하므로 이미 발송된 메시지가 다시 발송되지 않는다.
+     */
+    @RabbitListener(queues = "${rabbitmq.queue.email}",
+            containerFactory = "emailBatchListenerContainerFactory")
+    public void receiveEmailMessages(List<Message> amqpMessages, Channel channel) {
+        log.info("Received {} email messages from queue", amqpMessages.size());
+
+        Map<EmailMessage, Message> deliveries = new IdentityHashMap<>();
+        List<EmailMessage> messages = new ArrayList<>(amqpMessages.size());
+        for (Message amqpMessage : amqpMessages) {
+            try {
+                EmailMessage message = (EmailMessage) messageConverter.fromMessage(amqpMessage);
+                deliveries.put(message, amqpMessage);
+                messages.add(message);
+            } catch (RuntimeException e) {
+                log.error("Failed to convert email message", e);
+                settle(channel, amqpMessage, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
 
-    @RabbitListener(queues = "${rabbitmq.queue.email}")
-    public void receiveEmailMessage(EmailMessage message) {
-        log.info("Received email message from queue: {}", message);
+        Map<EmailMessage, Exception> failures;
         try {
-            emailService.sendEmail(
-                    message.getRecipient(),
-                    message.getSubject(),
-                    message.getContent()
-            );
+            failures = emailService.sendBatch(messages);
         } catch (Exception e) {
-            log.error("Failed to send email", e);
+            log.error("Failed to send email batch", e);
+            failures = new IdentityHashMap<>();
+            for (EmailMessage message : messages) {
+                failures.put(message, e);
+            }
         }
-    }
 
-    @RabbitListener(queues = "${rabbitmq.queue.notification}")
-    public void receiveNotificationMessage(String message) {
-        log.info("Received notification message from queue: {}", message);
-    }
-
-    @RabbitListener(queues = "${rabbitmq.queue.kakao}")
-    public void receiveKakaoMessage(KakaoMessage message) {
-        log.info("Received kakao message from queue: {}", message);
-        try {
-            if ("ALIMTALK".equals(message.getMessageType())) {
-                sendAlimtalkFromQueue(message);
-            } else if ("FRIENDTALK".equals(message.getMessageType())) {
-                sendFriendtalkFromQueue(message);
+        for (EmailMessage message : messages) {
+            Exception error = failures.get(message);
+            if (error != null) {
+                log.error("Failed to send email to: {}", message.getRecipient(), error);
             }
-        } catch (Exception e) {
-            log.error("Failed to send kakao message", e);
+            settle(channel, deliveries.get(message), error);
         }
     }
 
-    private void sendAlimtalkFromQueue(KakaoMessage message) {
-        List<AlimtalkRequest.Button> buttons = null;
-        if (message.getButtons() != null) {
-            buttons = message.getButtons().stream()
-                    .map(btn -> AlimtalkRequest.Button.builder()
-                            .type(btn.getType())
-                            .name(btn.getName())
-                            .linkMobile(btn.getLinkMobile())
-                            .linkPc(btn.getLinkPc())
-                            .build())
-                    .collect(Collectors.toList());
+    /**
+     * 성공은 ack, 실패는 재시도 단계 큐 또는 parking 큐로 재발행한 뒤 ack (재발행 실패 시 requeue)
+     */
+    private void settle(Channel channel, Message message, Exception error) {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        try {
+            if (error != null) {
+                try {
+                    retryRouter.route(message, emailQueue, error);
+                } catch (RuntimeException e) {
+                    log.error("Failed to route email message {}, requeueing", deliveryTag, e);
+                    channel.basicNack(deliveryTag, false, true);
+                    return;
+                }
+            }
+            channel.basicAck(deliveryTag, false);
+        } catch (IOException e) {
+            log.error("Failed to settle email message {}", deliveryTag, e);
         }
-
-        AlimtalkRequest.KakaoOptions kakaoOptions =
-                AlimtalkRequest.KakaoOptions.builder()
-                        .senderKey(senderKey)
-                        .templateCode(message.getTemplateCode())
-                        .variables(message.getVariables())
-                        .buttons(buttons)
-                        .build();
-
-        AlimtalkRequest request = AlimtalkRequest.builder()
-                .recipient(message.getRecipient())
-                .kakaoOptions(kakaoOptions)
-                .build();
-
-        kakaoApiClient.sendAlimtalk(request)
-                .doOnSuccess(response ->
-                        log.info("Alimtalk sent from queue: {}", response))
-                .doOnError(error ->
-                        log.error("Failed to send alimtalk from queue", error))
-                .subscribe();
     }
 
-    private void sendFriendtalkFromQueue(KakaoMessage message) {
-        FriendtalkRequest.Link link = FriendtalkRequest.Link.builder()
-                .webUrl(message.getWebUrl())
-                .mobileWebUrl(message.getWebUrl())
-                .build();
-
-        FriendtalkRequest.TemplateObject templateObject =
-                FriendtalkRequest.TemplateObject.builder()
-                        .objectType("text")
-                        .text(message.getContent())
-                        .link(link)
-                        .buttonTitle(message.getButtonTitle())
-                        .build();
-
-        FriendtalkRequest request = FriendtalkRequest.builder()
-                .receiverUuids(message.getReceiverUuids())
-                .templateObject(templateObject)
-                .build();
-
-        kakaoApiClient.sendFriendtalk(request)
-                .doOnSuccess(response ->
-                        log.info("Friendtalk sent from queue: {}", response))
-                .doOnError(error ->
-                        log.error("Failed to send friendtalk from queue", error))
-                .subscribe();
+    @RabbitListener(queues = "${rabbitmq.queue.notification}")
+    public void receiveNotificationMessage(String message) {
+        log.info("Received notification message from queue: {}", message);
     }
 
 }
@@ -0,0 +1,35 @@
+package com.example.api.messaging.consumer;
+
+import com.example.api.messaging.dto.EmailMessage;
+import com.example.api.messaging.dto.KakaoMessage;
+import com.example.api.messaging.dto.MessageType;
+import com.example.api.service.EmailService;
+import com.example.api.service.KakaoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브로커 없는 전송(jdbc 큐, 로컬 저널)에서 꺼낸 메시지 처리
+ * 발송 실패는 예외로 전달되며 재시도 여부는 호출자가 FailureClassifier 로 판단한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QueuedMessageHandler {
+
+    private final EmailService emailService;
+    private final KakaoService kakaoService;
+
+    public void handle(MessageType type, Object payload) {
+        switch (type) {
+            case EMAIL -> {
+                EmailMessage email = (EmailMessage) payload;
+                emailService.sendEmail(email.getRecipient(), email.getSubject(), email.getContent());
+            }
+            case KAKAO -> kakaoService.dispatchQueuedMessage((KakaoMessage) payload).block();
+            case NOTIFICATION -> log.info("Received notification message from queue: {}", payload);
+        }
+    }
+
+}
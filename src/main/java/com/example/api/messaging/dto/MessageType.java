@@ -0,0 +1,31 @@
+package com.example.api.messaging.dto;
+
+/**
+ * 테이블 기반 전송(outbox, jdbc 큐)에 기록되는 메시지 타입과 payload 클래스
+ */
+public enum MessageType {
+
+    EMAIL(EmailMessage.class),
+    KAKAO(KakaoMessage.class),
+    NOTIFICATION(String.class);
+
+    private final Class<?> payloadType;
+
+    MessageType(Class<?> payloadType) {
+        this.payloadType = payloadType;
+    }
+
+    public Class<?> payloadType() {
+        return payloadType;
+    }
+
+    public static MessageType of(Object message) {
+        for (MessageType type : values()) {
+            if (type.payloadType.isInstance(message)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported message type: " + message.getClass().getName());
+    }
+
+}
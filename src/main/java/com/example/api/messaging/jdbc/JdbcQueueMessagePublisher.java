@@ -0,0 +1,95 @@
+package com.example.api.messaging.jdbc;
+
+import com.example.api.entity.QueuedMessage;
+import com.example.api.mapper.MessageQueueMapper;
+import com.example.api.messaging.dto.EmailMessage;
+import com.example.api.messaging.dto.KakaoMessage;
+import com.example.api.messaging.dto.MessageType;
+import com.example.api.messaging.producer.MessagePublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Postgres 큐 테이블 기반 발행 (messaging.transport=jdbc)
+ * - 브로커 없이 message_queue 테이블에 기록하고 pg_notify 로 워커를 깨움
+ * - 기록은 호출자 트랜잭션에 참여하며 알림은 커밋 시점에 전달된다
+ * - 반환된 future 는 기록 시점에 완료된다
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "messaging.transport", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcQueueMessagePublisher implements MessagePublisher {
+
+    public static final String CHANNEL = "message_queue";
+
+    private final MessageQueueMapper messageQueueMapper;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public CompletableFuture<Void> sendEmailMessage(EmailMessage message) {
+        return send(message);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendNotificationMessage(String message) {
+        return send(message);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendKakaoMessage(KakaoMessage message) {
+        return send(message);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendAll(Collection<?> messages) {
+        Set<MessageType> types = EnumSet.noneOf(MessageType.class);
+        for (Object message : messages) {
+            types.add(enqueue(message));
+        }
+        types.forEach(type -> messageQueueMapper.notify(CHANNEL, type.name()));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private CompletableFuture<Void> send(Object message) {
+        MessageType type = enqueue(message);
+        messageQueueMapper.notify(CHANNEL, type.name());
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public long backlog(long limit) {
+        return messageQueueMapper.countReady(limit);
+    }
+
+    private MessageType enqueue(Object message) {
+        MessageType type = MessageType.of(message);
+        QueuedMessage queued = QueuedMessage.builder()
+                .messageType(type.name())
+                .payload(serialize(message))
+                .build();
+        messageQueueMapper.insert(queued);
+        log.debug("Message enqueued: {} {}", type, queued.getId());
+        return type;
+    }
+
+    private String serialize(Object message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize queued message", e);
+        }
+    }
+
+}
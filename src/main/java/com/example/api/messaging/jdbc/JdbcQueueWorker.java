@@ -0,0 +1,250 @@
+package com.example.api.messaging.jdbc;
+
+import com.example.api.entity.QueuedMessage;
+import com.example.api.mapper.MessageQueueMapper;
+import com.example.api.messaging.consumer.QueuedMessageHandler;
+import com.example.api.messaging.dto.MessageType;
+import com.example.api.messaging.retry.FailureClassifier;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Postgres 큐 테이블 소비 (messaging.transport=jdbc)
+ * - 메시지 타입별 워커 풀이 SKIP LOCKED 로 batch-size 건씩 가져와 처리
+ * - 가져간 메시지는 visibility-timeout 동안 숨겨지며, 처리 중 노드가 죽으면 이후 다시 노출
+ *   (배치 뒤쪽 메시지가 앞선 발송을 기다리다 다시 노출되지 않도록 메시지마다 처리 직전에 연장하고,
+ *   이미 다른 워커가 다시 가져간 메시지는 건너뜀)
+ * - LISTEN 전용 커넥션으로 pg_notify 를 받아 대기 중인 워커를 깨우므로 유휴 시 폴링하지 않음
+ *   (알림 유실 대비로 idle-poll-interval 마다 한 번 확인)
+ * - 실패 시 retry-delay * 시도 횟수 후 재노출, 재시도 불가 오류이거나 max-attempts 초과 시 DEAD
+ */
+@Component
+@ConditionalOnProperty(name = "messaging.transport", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcQueueWorker {
+
+    private static final int LISTEN_TIMEOUT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final MessageQueueMapper messageQueueMapper;
+    private final ObjectMapper objectMapper;
+    private final QueuedMessageHandler queuedMessageHandler;
+    private final FailureClassifier failureClassifier;
+    private final DataSourceProperties dataSourceProperties;
+
+    private final Map<MessageType, WakeupSignal> signals = new EnumMap<>(MessageType.class);
+    private final List<ExecutorService> executors = new ArrayList<>();
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Value("${messaging.jdbc.batch-size:20}")
+    private int batchSize;
+
+    @Value("${messaging.jdbc.visibility-timeout:60s}")
+    private Duration visibilityTimeout;
+
+    @Value("${messaging.jdbc.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${messaging.jdbc.retry-delay:30s}")
+    private Duration retryDelay;
+
+    @Value("${messaging.jdbc.idle-poll-interval:30s}")
+    private Duration idlePollInterval;
+
+    @Value("${messaging.jdbc.workers.email:2}")
+    private int emailWorkers;
+
+    @Value("${messaging.jdbc.workers.kakao:4}")
+    private int kakaoWorkers;
+
+    @Value("${messaging.jdbc.workers.notification:1}")
+    private int notificationWorkers;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (MessageType type : MessageType.values()) {
+            WakeupSignal signal = new WakeupSignal();
+            signals.put(type, signal);
+
+            int workers = workerCount(type);
+            ExecutorService executor = Executors.newFixedThreadPool(workers,
+                    new CustomizableThreadFactory("jdbc-queue-" + type.name().toLowerCase(Locale.ROOT) + "-"));
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> work(type, signal));
+            }
+            executors.add(executor);
+        }
+
+        listenerThread = new Thread(this::listen, "jdbc-queue-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("JDBC message queue started (email={}, kakao={}, notification={} workers)",
+                emailWorkers, kakaoWorkers, notificationWorkers);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        listenerThread.interrupt();
+        for (ExecutorService executor : executors) {
+            executor.shutdownNow();
+        }
+        for (ExecutorService executor : executors) {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private int workerCount(MessageType type) {
+        return switch (type) {
+            case EMAIL -> emailWorkers;
+            case KAKAO -> kakaoWorkers;
+            case NOTIFICATION -> notificationWorkers;
+        };
+    }
+
+    private void work(MessageType type, WakeupSignal signal) {
+        while (running) {
+            try {
+                long seen = signal.generation();
+                List<QueuedMessage> claimed = messageQueueMapper.claim(
+                        type.name(), batchSize, visibilityTimeout.toSeconds());
+                if (claimed.isEmpty()) {
+                    signal.await(seen, idlePollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                for (QueuedMessage message : claimed) {
+                    process(type, message);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to claim {} messages", type, e);
+                sleepQuietly(RECONNECT_DELAY_MILLIS);
+            }
+        }
+    }
+
+    private void process(MessageType type, QueuedMessage message) {
+        if (messageQueueMapper.extendVisibility(
+                message.getId(), message.getAttempts(), visibilityTimeout.toSeconds()) == 0) {
+            log.debug("Queued message {} was reclaimed by another worker, skipping", message.getId());
+            return;
+        }
+
+        Object payload;
+        try {
+            payload = objectMapper.readValue(message.getPayload(), type.payloadType());
+        } catch (JsonProcessingException e) {
+            log.error("Unreadable queued message {}, marking dead", message.getId(), e);
+            messageQueueMapper.markDead(message.getId(), describe(e));
+            return;
+        }
+
+        try {
+            queuedMessageHandler.handle(type, payload);
+            messageQueueMapper.delete(message.getId());
+        } catch (Exception e) {
+            fail(message, e);
+        }
+    }
+
+    private void fail(QueuedMessage message, Exception error) {
+        int attempts = message.getAttempts();
+        if (!failureClassifier.isRetryable(error) || attempts >= maxAttempts) {
+            log.error("Queued message {} failed permanently after {} attempts",
+                    message.getId(), attempts, error);
+            messageQueueMapper.markDead(message.getId(), describe(error));
+            return;
+        }
+
+        long delaySeconds = retryDelay.toSeconds() * attempts;
+        log.warn("Queued message {} failed (attempt {}), retrying in {}s: {}",
+                message.getId(), attempts, delaySeconds, error.getMessage());
+        messageQueueMapper.retryLater(message.getId(), delaySeconds, describe(error));
+    }
+
+    /**
+     * LISTEN 전용 커넥션 (커넥션 풀을 점유하지 않도록 별도로 연결)
+     */
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + JdbcQueueMessagePublisher.CHANNEL);
+                }
+                // 연결되기 전 알림을 놓쳤을 수 있으므로 전체 워커를 한 번 깨움
+                signals.values().forEach(WakeupSignal::signalAll);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(LISTEN_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        wakeUp(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Message queue listener disconnected, reconnecting: {}", e.getMessage());
+                sleepQuietly(RECONNECT_DELAY_MILLIS);
+            }
+        }
+    }
+
+    private void wakeUp(String messageType) {
+        try {
+            signals.get(MessageType.valueOf(messageType)).signalAll();
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown message queue notification: {}", messageType);
+        }
+    }
+
+    private static String describe(Throwable error) {
+        return error.getClass().getSimpleName() + ": " + error.getMessage();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
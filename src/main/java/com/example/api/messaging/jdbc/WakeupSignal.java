@@ -0,0 +1,51 @@
+package com.example.api.messaging.jdbc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메시지 타입별 워커 깨우기 신호
+ * 세대(generation) 번호를 비교하므로 조회와 대기 사이에 온 신호도 놓치지 않는다.
+ */
+final class WakeupSignal {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition signalled = lock.newCondition();
+    private long generation;
+
+    long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void signalAll() {
+        lock.lock();
+        try {
+            generation++;
+            signalled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * seen 이후 신호가 오거나 timeout 이 지날 때까지 대기
+     */
+    void await(long seen, long timeout, TimeUnit unit) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = unit.toNanos(timeout);
+            while (generation == seen && nanos > 0) {
+                nanos = signalled.awaitNanos(nanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
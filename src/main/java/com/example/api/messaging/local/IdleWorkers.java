@@ -0,0 +1,55 @@
+package com.example.api.messaging.local;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 할 일이 없어 대기 중인 워커 목록
+ * 생산자는 enqueue 후 wakeOne 으로 하나만 깨우며, 대기 워커가 없으면 poll 한 번으로 끝난다 (락 없음).
+ */
+public final class IdleWorkers {
+
+    private final ConcurrentLinkedQueue<Thread> parked = new ConcurrentLinkedQueue<>();
+    private final AtomicLong wakeups = new AtomicLong();
+
+    public void wakeOne() {
+        wakeups.incrementAndGet();
+        Thread worker = parked.poll();
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    public void wakeAll() {
+        wakeups.incrementAndGet();
+        Thread worker;
+        while ((worker = parked.poll()) != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * 지금까지의 wakeOne/wakeAll 호출 수 (대기 전 값과 비교하여 그 사이 새 메시지가 들어왔는지 확인)
+     */
+    public long wakeups() {
+        return wakeups.get();
+    }
+
+    /**
+     * 대기 목록에 등록한 뒤 hasWork 를 다시 확인하고 대기하므로 그 사이의 wakeOne 도 놓치지 않는다.
+     */
+    public void park(BooleanSupplier hasWork, long timeoutNanos) {
+        Thread current = Thread.currentThread();
+        parked.add(current);
+        try {
+            if (!hasWork.getAsBoolean()) {
+                LockSupport.parkNanos(this, timeoutNanos);
+            }
+        } finally {
+            parked.remove(current);
+        }
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.example.api.messaging.local;
+
+import com.example.api.messaging.consumer.QueuedMessageHandler;
+import com.example.api.messaging.dto.MessageType;
+import com.example.api.messaging.retry.FailureClassifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 저널 소비 (messaging.transport=local)
+ * - 가상 스레드 워커가 저널에서 메시지를 꺼내 SMTP/카카오로 발송
+ * - 슬롯은 처리가 끝난 뒤 release 하므로 처리 중 재시작되어도 다시 전달된다
+ * - 재시도 가능한 실패는 notBefore = 지금 + retry-delay * 시도 횟수 로 저널에 다시 기록하고 슬롯을 반환
+ *   (슬롯은 링 순서대로 재사용되므로 재시도 대기 중에 슬롯을 쥐고 있으면 한 바퀴 뒤 생산자가 막힌다)
+ * - notBefore 전에 꺼낸 메시지는 링 뒤쪽으로 다시 기록하고, 링을 한 바퀴 돌도록 처리할 메시지가 없으면
+ *   가장 이른 notBefore 까지(새 메시지가 들어오면 그 전에) 대기
+ * - 링이 가득 차 다시 기록할 수 없을 때만 워커가 슬롯을 잠시 쥐고 다른 메시지를 처리하며 빈 슬롯을 기다린다
+ */
+@Component
+@ConditionalOnProperty(name = "messaging.transport", havingValue = "local")
+@RequiredArgsConstructor
+@Slf4j
+public class LocalMessageDispatcher {
+
+    private static final MessageType[] TYPES = MessageType.values();
+
+    private final MappedJournal messageJournal;
+    private final IdleWorkers idleWorkers;
+    private final QueuedMessageHandler queuedMessageHandler;
+    private final FailureClassifier failureClassifier;
+    private final ObjectMapper objectMapper;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @Value("${messaging.local.workers:16}")
+    private int workerCount;
+
+    @Value("${messaging.local.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${messaging.local.retry-delay:30s}")
+    private Duration retryDelay;
+
+    @Value("${messaging.local.idle-timeout:1s}")
+    private Duration idleTimeout;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("local-dispatch-" + i).start(this::work));
+        }
+        log.info("Local message dispatcher started with {} workers, {} messages pending",
+                workerCount, messageJournal.size());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        for (Thread worker : workers) {
+            worker.join(Duration.ofSeconds(10));
+        }
+    }
+
+    /**
+     * 프로세스 재시작은 page cache 로 보존되며, OS 장애 대비로 주기적으로 디스크에 반영
+     */
+    @Scheduled(fixedDelayString = "${messaging.local.flush-interval:1000}")
+    public void flush() {
+        messageJournal.force();
+    }
+
+    private void work() {
+        long idleNanos = idleTimeout.toNanos();
+        Deque<Long> held = new ArrayDeque<>();
+        int deferredInRow = 0;
+        long earliestDue = Long.MAX_VALUE;
+        long streakWakeups = 0;
+        while (running) {
+            retryHeld(held);
+
+            long position = messageJournal.claim();
+            if (position < 0) {
+                idleWorkers.park(() -> messageJournal.size() > 0, idleNanos);
+                deferredInRow = 0;
+                earliestDue = Long.MAX_VALUE;
+                continue;
+            }
+
+            long notBefore = messageJournal.notBefore(position);
+            long now = System.currentTimeMillis();
+            if (notBefore > now) {
+                if (deferredInRow == 0) {
+                    streakWakeups = idleWorkers.wakeups();
+                }
+                hold(position, held);
+                earliestDue = Math.min(earliestDue, notBefore);
+                if (++deferredInRow >= Math.max(1, messageJournal.size())) {
+                    // 링을 한 바퀴 도는 동안 처리할 메시지가 없었으면 가장 이른 재시도 시각 또는 새 메시지까지 대기
+                    long seen = streakWakeups;
+                    long waitNanos = TimeUnit.MILLISECONDS.toNanos(earliestDue - now);
+                    idleWorkers.park(() -> idleWorkers.wakeups() != seen,
+                            held.isEmpty() ? waitNanos : Math.min(waitNanos, idleNanos));
+                    deferredInRow = 0;
+                    earliestDue = Long.MAX_VALUE;
+                }
+                continue;
+            }
+
+            deferredInRow = 0;
+            earliestDue = Long.MAX_VALUE;
+            if (process(position)) {
+                messageJournal.release(position);
+            } else {
+                hold(position, held);
+            }
+        }
+    }
+
+    /**
+     * 재시도 시각이 아닌 메시지를 링 뒤쪽으로 다시 기록하고 슬롯 반환
+     * 링이 가득 차 다시 기록할 수 없으면 다른 메시지를 처리하면서 빈 슬롯이 생길 때 다시 시도한다.
+     */
+    private void hold(long position, Deque<Long> held) {
+        if (!defer(position)) {
+            held.add(position);
+        }
+    }
+
+    /**
+     * 쥐고 있는 슬롯 중 재시도 시각이 된 것은 바로 처리하고, 나머지는 다시 기록을 시도
+     */
+    private void retryHeld(Deque<Long> held) {
+        for (int i = held.size(); i > 0; i--) {
+            long position = held.poll();
+            if (messageJournal.notBefore(position) <= System.currentTimeMillis() && process(position)) {
+                messageJournal.release(position);
+            } else if (!defer(position)) {
+                held.add(position);
+            }
+        }
+    }
+
+    private boolean defer(long position) {
+        try {
+            return messageJournal.requeue(position) >= 0;
+        } catch (IOException e) {
+            log.error("Failed to requeue message to local journal", e);
+            return false;
+        }
+    }
+
+    /**
+     * 재시도 가능한 실패는 슬롯에 notBefore 를 기록하고 false 를 반환하며, 호출자가 저널에 다시 기록한다.
+     * (대기 중에 슬롯을 쥐고 있지 않으므로 링이 한 바퀴 돌아도 생산자가 막히지 않음)
+     * @return 처리가 끝나 슬롯을 반환해도 되면 true
+     */
+    private boolean process(long position) {
+        MessageType type = TYPES[messageJournal.type(position)];
+        byte[] payload = messageJournal.payload(position);
+        if (payload == null) {
+            return true;
+        }
+
+        Object message;
+        try {
+            message = objectMapper.readValue(payload, type.payloadType());
+        } catch (IOException e) {
+            log.error("Dropping unreadable {} message from local journal", type, e);
+            return true;
+        }
+
+        int attempts = messageJournal.attempts(position) + 1;
+        messageJournal.attempts(position, attempts);
+        try {
+            queuedMessageHandler.handle(type, message);
+            return true;
+        } catch (Exception e) {
+            if (!failureClassifier.isRetryable(e) || attempts >= maxAttempts) {
+                log.error("{} message failed permanently after {} attempts", type, attempts, e);
+                return true;
+            }
+            Duration delay = retryDelay.multipliedBy(attempts);
+            log.warn("{} message failed (attempt {}), retrying in {}s: {}",
+                    type, attempts, delay.toSeconds(), e.getMessage());
+            messageJournal.notBefore(position, System.currentTimeMillis() + delay.toMillis());
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.example.api.messaging.local;
+
+import com.example.api.messaging.dto.EmailMessage;
+import com.example.api.messaging.dto.KakaoMessage;
+import com.example.api.messaging.dto.MessageType;
+import com.example.api.messaging.producer.MessagePublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 로컬 저널 발행 (messaging.transport=local)
+ * - 메시지를 저널 슬롯에 직접 직렬화하고 대기 중인 워커 하나를 깨움 (락 없음)
+ * - 저널이 가득 차면 RejectedExecutionException 으로 실패한 future 반환
+ * - 반환된 future 는 저널 기록 시점에 완료된다
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "messaging.transport", havingValue = "local")
+@RequiredArgsConstructor
+@Slf4j
+public class LocalMessagePublisher implements MessagePublisher {
+
+    private final MappedJournal messageJournal;
+    private final IdleWorkers idleWorkers;
+    private final ObjectMapper objectMapper;
+
+    private final MappedJournal.PayloadWriter<Object> jsonWriter =
+            (value, out) -> objectMapper.writeValue(out, value);
+
+    @Override
+    public CompletableFuture<Void> sendEmailMessage(EmailMessage message) {
+        return send(message);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendNotificationMessage(String message) {
+        return send(message);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendKakaoMessage(KakaoMessage message) {
+        return send(message);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendAll(Collection<?> messages) {
+        for (Object message : messages) {
+            CompletableFuture<Void> result = send(message);
+            if (result.isCompletedExceptionally()) {
+                return result;
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private CompletableFuture<Void> send(Object message) {
+        MessageType type = MessageType.of(message);
+        try {
+            if (messageJournal.append(type.ordinal(), 0, message, jsonWriter) < 0) {
+                return CompletableFuture.failedFuture(
+                        new RejectedExecutionException("Local message journal is full"));
+            }
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        idleWorkers.wakeOne();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public long backlog(long limit) {
+        return Math.min(messageJournal.size(), limit);
+    }
+
+}
@@ -0,0 +1,383 @@
+package com.example.api.messaging.local;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 매핑 파일 기반 유한 링 버퍼 (다중 생산자 / 다중 소비자)
+ * - 슬롯마다 시퀀스 번호를 두는 Vyukov 방식으로 enqueue/dequeue 모두 CAS 한 번으로 처리 (락 없음)
+ * - 슬롯은 소비자가 release 한 뒤에만 재사용되므로 처리 중인 메시지도 파일에 남아 있음
+ * - 재시작 시 파일을 스캔하여 release 되지 않은 메시지를 순서대로 복구 (at-least-once)
+ * - 재시도 메시지는 notBefore(epoch ms) 와 함께 다시 기록되며, 그 시각 전에는 처리하지 않는다 (소비자 판단)
+ *
+ * 파일 구조: [header 64B: magic, capacity, slotSize, layout][slot 0]...[slot capacity-1]
+ * 슬롯 구조: [sequence 8B][length 4B][type 2B][attempts 2B][notBefore 8B][payload]
+ * 헤더의 layout 이 다른 파일은 슬롯 구조를 알 수 없으므로 열지 않는다.
+ */
+public final class MappedJournal implements AutoCloseable {
+
+    private static final int MAGIC = 0x4a524e4c;  // "JRNL"
+    private static final int HEADER_SIZE = 64;
+    private static final int SEQUENCE_OFFSET = 0;
+    private static final int LENGTH_OFFSET = 8;
+    private static final int TYPE_OFFSET = 12;
+    private static final int ATTEMPTS_OFFSET = 14;
+    private static final int NOT_BEFORE_OFFSET = 16;
+    private static final int PAYLOAD_OFFSET = 24;
+    private static final int LAYOUT = 1;
+    private static final int TOMBSTONE = -1;
+
+    private static final PayloadWriter<byte[]> RAW_WRITER = (payload, out) -> out.write(payload);
+
+    private static final VarHandle SEQUENCE =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+    private final int slotSize;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    /**
+     * payload 를 슬롯에 직접 직렬화 (중간 byte[] 없이 매핑된 버퍼에 기록)
+     */
+    @FunctionalInterface
+    public interface PayloadWriter<T> {
+        void write(T value, OutputStream out) throws IOException;
+    }
+
+    public static class PayloadTooLargeException extends IOException {
+        public PayloadTooLargeException(int limit) {
+            super("Payload exceeds journal slot size of " + limit + " bytes");
+        }
+    }
+
+    public MappedJournal(Path file, int capacity, int slotSize) throws IOException {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Journal capacity must be a power of two: " + capacity);
+        }
+        if (slotSize % 8 != 0 || slotSize <= PAYLOAD_OFFSET) {
+            throw new IllegalArgumentException("Journal slot size must be a multiple of 8: " + slotSize);
+        }
+        long fileSize = HEADER_SIZE + (long) capacity * slotSize;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal file would exceed 2GB: " + fileSize);
+        }
+
+        this.file = file;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slotSize = slotSize;
+
+        List<Entry> pending = Files.exists(file) ? readPending(file) : List.of();
+        rebuild(file, pending, fileSize);
+
+        this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        this.buffer.order(ByteOrder.nativeOrder());
+        this.enqueuePosition.set(pending.size());
+    }
+
+    /**
+     * 슬롯을 하나 확보하여 기록. 링이 가득 차면 -1
+     * 직렬화에 실패하면 슬롯은 tombstone 으로 공개되고 예외가 그대로 전달된다.
+     */
+    public <T> long append(int type, int attempts, T value, PayloadWriter<T> writer) throws IOException {
+        return append(type, attempts, 0, value, writer);
+    }
+
+    /**
+     * notBefore(epoch ms) 이후에 처리할 메시지 기록 (재시도)
+     */
+    public <T> long append(int type, int attempts, long notBefore, T value, PayloadWriter<T> writer)
+            throws IOException {
+        long position = enqueuePosition.get();
+        int offset;
+        while (true) {
+            offset = offset(position);
+            long sequence = (long) SEQUENCE.getAcquire(buffer, offset + SEQUENCE_OFFSET);
+            long diff = sequence - position;
+            if (diff == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = enqueuePosition.get();
+            } else if (diff < 0) {
+                return -1;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+
+        buffer.putShort(offset + TYPE_OFFSET, (short) type);
+        buffer.putShort(offset + ATTEMPTS_OFFSET, (short) Math.min(attempts, Short.MAX_VALUE));
+        buffer.putLong(offset + NOT_BEFORE_OFFSET, notBefore);
+        buffer.putInt(offset + LENGTH_OFFSET, TOMBSTONE);
+        SlotOutputStream out = new SlotOutputStream(buffer, offset + PAYLOAD_OFFSET, offset + slotSize);
+        try {
+            writer.write(value, out);
+            buffer.putInt(offset + LENGTH_OFFSET, out.position - (offset + PAYLOAD_OFFSET));
+        } finally {
+            SEQUENCE.setRelease(buffer, offset + SEQUENCE_OFFSET, position + 1);
+        }
+        return position;
+    }
+
+    /**
+     * 공개된 메시지 하나를 가져옴. 비어 있으면 -1
+     * 가져간 슬롯은 release 전까지 재사용되지 않는다.
+     */
+    public long claim() {
+        long position = dequeuePosition.get();
+        while (true) {
+            long sequence = (long) SEQUENCE.getAcquire(buffer, offset(position) + SEQUENCE_OFFSET);
+            long diff = sequence - (position + 1);
+            if (diff == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = dequeuePosition.get();
+            } else if (diff < 0) {
+                return -1;
+            } else {
+                position = dequeuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * 가져간 메시지를 슬롯의 attempts/notBefore 그대로 링 뒤쪽에 다시 공개하고 원래 슬롯을 반환. 링이 가득 차면 -1
+     * 다음 기록 위치가 바로 이 슬롯이면(링이 이 슬롯 때문에만 가득 찬 경우) 복사 없이 그 자리에서 다시 공개한다.
+     */
+    public long requeue(long position) throws IOException {
+        int offset = offset(position);
+        long head = position + capacity;
+        if (enqueuePosition.get() == head && enqueuePosition.compareAndSet(head, head + 1)) {
+            SEQUENCE.setRelease(buffer, offset + SEQUENCE_OFFSET, head + 1);
+            return head;
+        }
+
+        byte[] payload = payload(position);
+        long requeued = payload == null
+                ? position
+                : append(type(position), attempts(position), notBefore(position), payload, RAW_WRITER);
+        if (requeued >= 0) {
+            release(position);
+        }
+        return requeued;
+    }
+
+    public int type(long position) {
+        return buffer.getShort(offset(position) + TYPE_OFFSET);
+    }
+
+    public int attempts(long position) {
+        return buffer.getShort(offset(position) + ATTEMPTS_OFFSET);
+    }
+
+    /**
+     * 이 시각(epoch ms) 전에는 처리하지 않아야 하는 메시지면 그 시각, 아니면 0
+     */
+    public long notBefore(long position) {
+        return buffer.getLong(offset(position) + NOT_BEFORE_OFFSET);
+    }
+
+    /**
+     * 가져간 슬롯의 재시도 시각 갱신 (다시 기록하기 전에 재시작되어도 유지)
+     */
+    public void notBefore(long position, long notBefore) {
+        buffer.putLong(offset(position) + NOT_BEFORE_OFFSET, notBefore);
+    }
+
+    /**
+     * 가져간 슬롯의 시도 횟수 갱신 (재시작 후 재전달 시에도 유지)
+     */
+    public void attempts(long position, int attempts) {
+        buffer.putShort(offset(position) + ATTEMPTS_OFFSET, (short) Math.min(attempts, Short.MAX_VALUE));
+    }
+
+    /**
+     * payload 복사본. tombstone 이면 null
+     */
+    public byte[] payload(long position) {
+        int offset = offset(position);
+        int length = buffer.getInt(offset + LENGTH_OFFSET);
+        if (length == TOMBSTONE) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(offset + PAYLOAD_OFFSET, payload);
+        return payload;
+    }
+
+    /**
+     * 처리 완료된 슬롯을 반환하여 생산자가 재사용할 수 있게 함
+     */
+    public void release(long position) {
+        SEQUENCE.setRelease(buffer, offset(position) + SEQUENCE_OFFSET, position + capacity);
+    }
+
+    /**
+     * 대기 중인 메시지 수 (근사치)
+     */
+    public long size() {
+        return Math.max(0, enqueuePosition.get() - dequeuePosition.get());
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * OS 장애에도 남도록 디스크에 반영 (프로세스 재시작은 page cache 로 충분)
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private int offset(long position) {
+        return HEADER_SIZE + (int) (position & mask) * slotSize;
+    }
+
+    /**
+     * 기존 파일에서 release 되지 않은 메시지를 시퀀스 순으로 읽음 (이전 capacity/slotSize 기준)
+     */
+    private static List<Entry> readPending(Path file) throws IOException {
+        try (FileChannel existing = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (existing.size() < HEADER_SIZE) {
+                return List.of();
+            }
+            MappedByteBuffer old = existing.map(FileChannel.MapMode.READ_ONLY, 0, existing.size());
+            old.order(ByteOrder.nativeOrder());
+            if (old.getInt(0) != MAGIC) {
+                throw new IOException("Not a journal file: " + file);
+            }
+            int oldCapacity = old.getInt(4);
+            int oldSlotSize = old.getInt(8);
+            int layout = old.getInt(12);
+            if (layout != LAYOUT) {
+                throw new IOException("Unsupported journal layout " + layout + " (expected " + LAYOUT + "): " + file);
+            }
+            long oldMask = oldCapacity - 1L;
+
+            List<Entry> pending = new ArrayList<>();
+            for (int i = 0; i < oldCapacity; i++) {
+                int offset = HEADER_SIZE + i * oldSlotSize;
+                long sequence = old.getLong(offset + SEQUENCE_OFFSET);
+                int length = old.getInt(offset + LENGTH_OFFSET);
+                if (sequence <= 0 || ((sequence - 1) & oldMask) != i || length == TOMBSTONE) {
+                    continue;
+                }
+                byte[] payload = new byte[length];
+                old.get(offset + PAYLOAD_OFFSET, payload);
+                pending.add(new Entry(sequence - 1, old.getShort(offset + TYPE_OFFSET),
+                        old.getShort(offset + ATTEMPTS_OFFSET),
+                        old.getLong(offset + NOT_BEFORE_OFFSET), payload));
+            }
+            pending.sort(Comparator.comparingLong(Entry::position));
+            return pending;
+        }
+    }
+
+    /**
+     * 새 파일에 복구한 메시지를 0번 슬롯부터 다시 기록하고 원자적으로 교체
+     */
+    private void rebuild(Path target, List<Entry> pending, long fileSize) throws IOException {
+        if (pending.size() > capacity) {
+            throw new IOException("Journal has " + pending.size() + " pending messages, more than capacity " + capacity);
+        }
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel fresh = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = fresh.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            out.order(ByteOrder.nativeOrder());
+            out.putInt(0, MAGIC);
+            out.putInt(4, capacity);
+            out.putInt(8, slotSize);
+            out.putInt(12, LAYOUT);
+            for (int i = 0; i < capacity; i++) {
+                out.putLong(HEADER_SIZE + i * slotSize + SEQUENCE_OFFSET, i);
+            }
+            for (int i = 0; i < pending.size(); i++) {
+                Entry entry = pending.get(i);
+                if (entry.payload().length > slotSize - PAYLOAD_OFFSET) {
+                    throw new IOException("Pending message does not fit slot size " + slotSize);
+                }
+                int offset = HEADER_SIZE + i * slotSize;
+                out.putLong(offset + SEQUENCE_OFFSET, i + 1L);
+                out.putInt(offset + LENGTH_OFFSET, entry.payload().length);
+                out.putShort(offset + TYPE_OFFSET, entry.type());
+                out.putShort(offset + ATTEMPTS_OFFSET, entry.attempts());
+                out.putLong(offset + NOT_BEFORE_OFFSET, entry.notBefore());
+                out.put(offset + PAYLOAD_OFFSET, entry.payload());
+            }
+            out.force();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private record Entry(long position, short type, short attempts, long notBefore, byte[] payload) {
+    }
+
+    /**
+     * 매핑된 버퍼의 슬롯 payload 영역에 직접 쓰는 스트림
+     */
+    private static final class SlotOutputStream extends OutputStream {
+
+        private final MappedByteBuffer buffer;
+        private final int start;
+        private final int limit;
+        private int position;
+
+        private SlotOutputStream(MappedByteBuffer buffer, int start, int limit) {
+            this.buffer = buffer;
+            this.start = start;
+            this.limit = limit;
+            this.position = start;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (position >= limit) {
+                throw new PayloadTooLargeException(limit - start);
+            }
+            buffer.put(position++, (byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (position + length > limit) {
+                throw new PayloadTooLargeException(limit - start);
+            }
+            buffer.put(position, bytes, offset, length);
+            position += length;
+        }
+    }
+
+}
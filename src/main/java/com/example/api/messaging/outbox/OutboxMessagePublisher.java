@@ -0,0 +1,83 @@
+package com.example.api.messaging.outbox;
+
+import com.example.api.entity.NotificationOutbox;
+import com.example.api.mapper.OutboxMapper;
+import com.example.api.messaging.dto.EmailMessage;
+import com.example.api.messaging.dto.KakaoMessage;
+import com.example.api.messaging.dto.MessageType;
+import com.example.api.messaging.producer.MessagePublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Transactional outbox 발행 (messaging.outbox.enabled=true, 기본값)
+ * - 메시지를 notification_outbox 테이블에 기록만 하므로 호출자 트랜잭션과 함께 커밋/롤백된다
+ * - 브로커 발행은 OutboxRelay 가 담당하므로 API 응답 시간이 브로커 지연에 영향받지 않는다
+ * - 반환된 future 는 outbox 기록 시점에 완료된다
+ */
+@Component
+@Primary
+@ConditionalOnClass(RabbitTemplate.class)
+@ConditionalOnExpression("'${spring.rabbitmq.host:}' != '' and '${messaging.transport:rabbit}' == 'rabbit' and ${messaging.outbox.enabled:true}")
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxMessagePublisher implements MessagePublisher {
+
+    private final OutboxMapper outboxMapper;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public CompletableFuture<Void> sendEmailMessage(EmailMessage message) {
+        return append(message);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendNotificationMessage(String message) {
+        return append(message);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendKakaoMessage(KakaoMessage message) {
+        return append(message);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendAll(Collection<?> messages) {
+        messages.forEach(this::append);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private CompletableFuture<Void> append(Object message) {
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .messageType(MessageType.of(message).name())
+                .payload(serialize(message))
+                .build();
+        outboxMapper.insert(outbox);
+        log.debug("Message appended to outbox: {}", outbox.getId());
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public long backlog(long limit) {
+        return outboxMapper.countPending(limit);
+    }
+
+    private String serialize(Object message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize outbox message", e);
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.example.api.messaging.outbox;
+
+import com.example.api.entity.NotificationOutbox;
+import com.example.api.mapper.OutboxMapper;
+import com.example.api.messaging.dto.MessageType;
+import com.example.api.messaging.producer.MessageProducer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * outbox relay
+ * - FOR UPDATE SKIP LOCKED 로 batch-size 건씩 잠그므로 여러 노드가 경합 없이 병렬로 처리
+ * - 한 배치는 MessageProducer.sendEach 로 한 채널에서 연속 발행하고, 브로커가 ack 한 행만 삭제
+ * - nack/타임아웃된 행은 retry-delay * attempts 뒤에 다시 시도하고, max-attempts 를 넘거나
+ *   역직렬화할 수 없는 행은 DEAD 로 옮겨 outbox 앞쪽을 막지 않게 함 (at-least-once)
+ */
+@Component
+@ConditionalOnClass(RabbitTemplate.class)
+@ConditionalOnExpression("'${spring.rabbitmq.host:}' != '' and '${messaging.transport:rabbit}' == 'rabbit' and ${messaging.outbox.enabled:true}")
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxMapper outboxMapper;
+    private final MessageProducer messageProducer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${messaging.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${messaging.outbox.publish-timeout:10s}")
+    private Duration publishTimeout;
+
+    @Value("${messaging.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${messaging.outbox.retry-delay:30s}")
+    private Duration retryDelay;
+
+    /**
+     * 가득 찬 배치를 처리했다면 쌓인 메시지가 더 있으므로 바로 다음 배치를 처리
+     */
+    @Scheduled(fixedDelayString = "${messaging.outbox.poll-interval:200}")
+    public void relay() {
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed != null && relayed == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Outbox relay failed, will retry on next poll", e);
+        }
+    }
+
+    private int relayBatch() {
+        List<NotificationOutbox> rows = outboxMapper.claim(batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<NotificationOutbox> readable = new ArrayList<>(rows.size());
+        List<Object> messages = new ArrayList<>(rows.size());
+        for (NotificationOutbox row : rows) {
+            try {
+                MessageType type = MessageType.valueOf(row.getMessageType());
+                messages.add(objectMapper.readValue(row.getPayload(), type.payloadType()));
+                readable.add(row);
+            } catch (Exception e) {
+                // 역직렬화할 수 없는 행은 재시도해도 같으므로 바로 DEAD 로 옮김
+                log.error("Parking unreadable outbox message {}: {}", row.getId(), row.getPayload(), e);
+                outboxMapper.markDead(row.getId(), describe(e));
+            }
+        }
+
+        List<CompletableFuture<Void>> confirms = messageProducer.sendEach(messages);
+        awaitConfirms(confirms);
+
+        List<Long> acked = new ArrayList<>(readable.size());
+        for (int i = 0; i < readable.size(); i++) {
+            Throwable error = failure(confirms.get(i));
+            if (error == null) {
+                acked.add(readable.get(i).getId());
+            } else {
+                retryOrPark(readable.get(i), error);
+            }
+        }
+        if (!acked.isEmpty()) {
+            outboxMapper.deleteByIds(acked);
+        }
+        log.debug("Relayed {} of {} outbox messages", acked.size(), rows.size());
+        return rows.size();
+    }
+
+    /**
+     * publish-timeout 까지 confirm 을 기다림 (그때까지 완료되지 않은 메시지는 실패로 처리)
+     */
+    private void awaitConfirms(List<CompletableFuture<Void>> confirms) {
+        try {
+            CompletableFuture.allOf(confirms.toArray(CompletableFuture[]::new))
+                    .get(publishTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while relaying outbox", e);
+        } catch (ExecutionException | TimeoutException e) {
+            // 메시지별 결과는 failure() 로 확인
+        }
+    }
+
+    private static Throwable failure(CompletableFuture<Void> confirm) {
+        if (!confirm.isDone()) {
+            return new TimeoutException("Publish was not confirmed within publish-timeout");
+        }
+        if (!confirm.isCompletedExceptionally()) {
+            return null;
+        }
+        try {
+            confirm.join();
+            return null;
+        } catch (RuntimeException e) {
+            return e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    private void retryOrPark(NotificationOutbox row, Throwable error) {
+        int attempts = row.getAttempts() == null ? 1 : row.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("Outbox message {} failed permanently after {} attempts", row.getId(), attempts, error);
+            outboxMapper.markDead(row.getId(), describe(error));
+            return;
+        }
+
+        long delaySeconds = retryDelay.toSeconds() * attempts;
+        log.warn("Outbox message {} failed (attempt {}), retrying in {}s: {}",
+                row.getId(), attempts, delaySeconds, error.getMessage());
+        outboxMapper.retryLater(row.getId(), delaySeconds, describe(error));
+    }
+
+    private static String describe(Throwable error) {
+        return error.getClass().getSimpleName() + ": " + error.getMessage();
+    }
+
+}
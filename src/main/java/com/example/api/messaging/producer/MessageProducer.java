@@ -2,22 +2,41 @@ package com.example.api.messaging.producer;
 
 import com.example.api.messaging.dto.EmailMessage;
 import com.example.api.messaging.dto.KakaoMessage;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RabbitMQ 메시지 발행
+ * - spring.rabbitmq.publisher-confirm-type=correlated 이면 브로커 ack 시점에 future 완료
+ * - 확인 대기 중인 발행 수는 rabbitmq.publisher.max-outstanding 으로 제한
+ * - confirm 이 꺼져 있으면 발행 직후 완료 (기존 동작)
+ */
 @Service
 @ConditionalOnClass(RabbitTemplate.class)
 @ConditionalOnProperty(prefix = "spring.rabbitmq", name = "host")
-@RequiredArgsConstructor
 @Slf4j
-public class MessageProducer {
+public class MessageProducer implements MessagePublisher {
 
     private final RabbitTemplate rabbitTemplate;
+    private final boolean confirmsEnabled;
+    private final Semaphore outstanding;
+    private final long acquireTimeoutNanos;
 
     @Value("${rabbitmq.exchange}")
     private String exchange;
@@ -31,19 +50,155 @@ public class MessageProducer {
     @Value("${rabbitmq.routing-key.kakao}")
     private String kakaoRoutingKey;
 
-    public void sendEmailMessage(EmailMessage message) {
+    @Value("${rabbitmq.queue.email}")
+    private String emailQueue;
+
+    @Value("${rabbitmq.queue.kakao}")
+    private String kakaoQueue;
+
+    public MessageProducer(RabbitTemplate rabbitTemplate,
+                           @Value("${rabbitmq.publisher.max-outstanding:1000}") int maxOutstanding,
+                           @Value("${rabbitmq.publisher.acquire-timeout:5s}") Duration acquireTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmsEnabled = rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+        this.outstanding = new Semaphore(maxOutstanding);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public CompletableFuture<Void> sendEmailMessage(EmailMessage message) {
         log.info("Sending email message to queue: {}", message);
-        rabbitTemplate.convertAndSend(exchange, emailRoutingKey, message);
+        return publish(rabbitTemplate, emailRoutingKey, message);
     }
 
-    public void sendNotificationMessage(String message) {
+    @Override
+    public CompletableFuture<Void> sendNotificationMessage(String message) {
         log.info("Sending notification message to queue: {}", message);
-        rabbitTemplate.convertAndSend(exchange, notificationRoutingKey, message);
+        return publish(rabbitTemplate, notificationRoutingKey, message);
     }
 
-    public void sendKakaoMessage(KakaoMessage message) {
+    @Override
+    public CompletableFuture<Void> sendKakaoMessage(KakaoMessage message) {
         log.info("Sending kakao message to queue: {}", message);
-        rabbitTemplate.convertAndSend(exchange, kakaoRoutingKey, message);
+        return publish(rabbitTemplate, kakaoRoutingKey, message);
+    }
+
+    /**
+     * 다건 발행
+     * 하나의 채널에서 ack 를 기다리지 않고 연속 발행하며, 전체가 ack 되면 완료된다.
+     * 메시지 타입(EmailMessage, KakaoMessage, String)에 따라 routing key 를 결정한다.
+     * 도중에 발행할 수 없게 되면(확인 대기 한도 초과, 채널 오류 등) 예외를 던지지 않고 나머지 메시지를
+     * 발행하지 않은 채 실패한 future 를 반환한다. 이미 발행한 메시지의 confirm 은 그대로 기다린다.
+     */
+    @Override
+    public CompletableFuture<Void> sendAll(Collection<?> messages) {
+        if (messages.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(sendEach(messages).toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * sendAll 과 같이 발행하되 메시지별 confirm 결과를 messages 순서대로 반환
+     * (일부만 실패한 경우 호출자가 ack 된 메시지와 실패한 메시지를 구분할 수 있음)
+     */
+    public List<CompletableFuture<Void>> sendEach(Collection<?> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+        log.info("Sending {} messages to queue", messages.size());
+
+        try {
+            return rabbitTemplate.invoke(operations -> {
+                List<CompletableFuture<Void>> published = new ArrayList<>(messages.size());
+                RuntimeException failure = null;
+                for (Object message : messages) {
+                    if (failure == null) {
+                        try {
+                            published.add(publish(operations, routingKeyFor(message), message));
+                            continue;
+                        } catch (RuntimeException e) {
+                            log.error("Failed to publish message {} of {}, skipping the rest",
+                                    published.size() + 1, messages.size(), e);
+                            failure = e;
+                        }
+                    }
+                    published.add(CompletableFuture.failedFuture(failure));
+                }
+                return published;
+            });
+        } catch (RuntimeException e) {
+            List<CompletableFuture<Void>> failed = new ArrayList<>(messages.size());
+            for (int i = 0; i < messages.size(); i++) {
+                failed.add(CompletableFuture.failedFuture(e));
+            }
+            return failed;
+        }
+    }
+
+    /**
+     * 이메일/카카오 큐에 쌓인 메시지 수 (passive declare 로 조회, 브로커에 연결할 수 없으면 -1)
+     */
+    @Override
+    public long backlog(long limit) {
+        try {
+            Long count = rabbitTemplate.execute(channel ->
+                    channel.messageCount(emailQueue) + channel.messageCount(kakaoQueue));
+            return count == null ? -1 : Math.min(count, limit);
+        } catch (AmqpException e) {
+            log.debug("Failed to read queue depth", e);
+            return -1;
+        }
+    }
+
+    private CompletableFuture<Void> publish(RabbitOperations operations, String routingKey, Object message) {
+        if (!confirmsEnabled) {
+            operations.convertAndSend(exchange, routingKey, message);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        acquirePermit();
+        CorrelationData correlation = new CorrelationData();
+        CompletableFuture<Void> result = correlation.getFuture()
+                .thenAccept(confirm -> {
+                    if (!confirm.isAck()) {
+                        throw new AmqpException("Publish nacked by broker: " + confirm.getReason());
+                    }
+                })
+                .whenComplete((unused, error) -> outstanding.release());
+        try {
+            operations.convertAndSend(exchange, routingKey, message, correlation);
+        } catch (RuntimeException e) {
+            correlation.getFuture().completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * 확인 대기 중인 발행이 가득 차면 acquire-timeout 까지 대기 후 실패
+     */
+    private void acquirePermit() {
+        try {
+            if (!outstanding.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new AmqpTimeoutException("Too many unconfirmed publishes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpTimeoutException("Interrupted while waiting for publish window");
+        }
+    }
+
+    private String routingKeyFor(Object message) {
+        if (message instanceof EmailMessage) {
+            return emailRoutingKey;
+        }
+        if (message instanceof KakaoMessage) {
+            return kakaoRoutingKey;
+        }
+        if (message instanceof String) {
+            return notificationRoutingKey;
+        }
+        throw new IllegalArgumentException("Unsupported message type: " + message.getClass().getName());
     }
 
 }
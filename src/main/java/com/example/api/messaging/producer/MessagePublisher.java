@@ -0,0 +1,32 @@
+package com.example.api.messaging.producer;
+
+import com.example.api.messaging.dto.EmailMessage;
+import com.example.api.messaging.dto.KakaoMessage;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 알림 메시지 발행
+ * - MessageProducer: RabbitMQ 로 즉시 발행
+ * - OutboxMessagePublisher: 호출자 트랜잭션 안에서 outbox 테이블에 기록 후 relay 가 발행
+ */
+public interface MessagePublisher {
+
+    CompletableFuture<Void> sendEmailMessage(EmailMessage message);
+
+    CompletableFuture<Void> sendNotificationMessage(String message);
+
+    CompletableFuture<Void> sendKakaoMessage(KakaoMessage message);
+
+    CompletableFuture<Void> sendAll(Collection<?> messages);
+
+    /**
+     * 아직 소비되지 않은 메시지 수 (limit 이상이면 limit, 알 수 없으면 -1)
+     * 부하 제어(AdmissionSignals)가 주기적으로 조회한다.
+     */
+    default long backlog(long limit) {
+        return -1;
+    }
+
+}
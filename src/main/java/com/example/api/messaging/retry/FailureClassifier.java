@@ -0,0 +1,47 @@
+package com.example.api.messaging.retry;
+
+import com.example.api.exception.CustomException;
+import com.example.api.exception.KakaoApiException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발송 실패 분류
+ * - 재시도 불가: 템플릿/수신자 오류(4xx), 로컬 요청 검증 실패(CustomException 4xx), 잘못된 메일 주소, 메일 인증/파싱 오류, 역직렬화 오류
+ * - 재시도 가능: 그 외 (5xx, 429, 타임아웃, 연결 오류, 서킷 오픈 등)
+ */
+@Component
+public class FailureClassifier {
+
+    public boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof KakaoApiException kakaoApiException) {
+                return !kakaoApiException.isClientError();
+            }
+            if (cause instanceof CustomException customException
+                    && customException.getStatusCode() >= 400 && customException.getStatusCode() < 500) {
+                return false;
+            }
+            if (cause instanceof IllegalArgumentException
+                    || cause instanceof MessageConversionException
+                    || cause instanceof AddressException
+                    || cause instanceof MailAuthenticationException
+                    || cause instanceof MailParseException
+                    || cause instanceof MailPreparationException) {
+                return false;
+            }
+            if (cause instanceof SendFailedException sendFailedException
+                    && sendFailedException.getInvalidAddresses() != null
+                    && sendFailedException.getInvalidAddresses().length > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.example.api.messaging.retry;
+
+import com.example.api.config.RabbitMqConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 실패한 메시지를 다음 재시도 단계 큐 또는 parking 큐로 재발행
+ * 재발행 후 원본 메시지는 호출 측에서 ack 한다.
+ */
+@Component
+@ConditionalOnClass(RabbitTemplate.class)
+@ConditionalOnProperty(prefix = "spring.rabbitmq", name = "host")
+@RequiredArgsConstructor
+@Slf4j
+public class RetryRouter {
+
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+    public static final String LAST_ERROR_HEADER = "x-last-error";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final FailureClassifier failureClassifier;
+
+    @Value("${rabbitmq.retry.delays:10s,1m,10m}")
+    private List<Duration> retryDelays;
+
+    public void route(Message message, String queue, Throwable error) {
+        MessageProperties properties = message.getMessageProperties();
+        int retryCount = retryCount(properties);
+        properties.setHeader(LAST_ERROR_HEADER, describe(error));
+
+        if (failureClassifier.isRetryable(error) && retryCount < retryDelays.size()) {
+            properties.setHeader(RETRY_COUNT_HEADER, retryCount + 1);
+            String retryQueue = RabbitMqConfig.retryQueueName(queue, retryCount);
+            rabbitTemplate.send("", retryQueue, message);
+            log.warn("Scheduled retry {} of {} for {} message in {}: {}",
+                    retryCount + 1, retryDelays.size(), queue, retryDelays.get(retryCount), error.getMessage());
+        } else {
+            String parkingQueue = RabbitMqConfig.parkingQueueName(queue);
+            rabbitTemplate.send("", parkingQueue, message);
+            log.error("Parked {} message after {} retries: {}", queue, retryCount, error.getMessage());
+        }
+    }
+
+    private int retryCount(MessageProperties properties) {
+        Object header = properties.getHeader(RETRY_COUNT_HEADER);
+        if (header instanceof Number number) {
+            return number.intValue();
+        }
+        return 0;
+    }
+
+    private String describe(Throwable error) {
+        String description = error.getClass().getSimpleName() + ": " + error.getMessage();
+        return description.length() > MAX_ERROR_LENGTH
+                ? description.substring(0, MAX_ERROR_LENGTH)
+                : description;
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.example.api.ratelimit;
+
+import com.example.api.mapper.SendRateMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 다중 노드용 발송 속도 제어
+ * - 초 단위 윈도우마다 Postgres 카운터에서 lease-size 만큼의 허용량을 임대
+ * - 임대한 허용량은 노드 내부에서 CAS로 소진하므로 대부분의 발송은 DB를 거치지 않음
+ * - 윈도우 허용량이 소진되면 받은 만큼만 차감하고 나머지는 다음 윈도우까지 대기
+ *   (허용량을 전혀 받지 못한 채 max-wait 를 넘길 때만 실패)
+ */
+@Component
+@ConditionalOnProperty(name = "kakao.rate-limit.mode", havingValue = "cluster")
+@Slf4j
+public class JdbcSendRateGovernor implements SendRateGovernor {
+
+    private final SendRateMapper sendRateMapper;
+    private final Map<String, AtomicReference<Lease>> leases = new ConcurrentHashMap<>();
+
+    private final int permitsPerSecond;
+    private final int leaseSize;
+    private final long maxWaitMillis;
+
+    public JdbcSendRateGovernor(SendRateMapper sendRateMapper,
+                                @Value("${kakao.rate-limit.permits-per-second:50}") int permitsPerSecond,
+                                @Value("${kakao.rate-limit.lease-size:10}") int leaseSize,
+                                @Value("${kakao.rate-limit.max-wait:2s}") Duration maxWait) {
+        this.sendRateMapper = sendRateMapper;
+        this.permitsPerSecond = permitsPerSecond;
+        this.leaseSize = leaseSize;
+        this.maxWaitMillis = maxWait.toMillis();
+    }
+
+    @Override
+    public Mono<Void> acquire(String senderKey, int permits) {
+        return Mono.defer(() -> acquire(senderKey, permits, System.currentTimeMillis() + maxWaitMillis));
+    }
+
+    /**
+     * 로컬 임대분과 DB 임대에서 받은 만큼 needed 를 줄여 가며 남은 양은 다음 윈도우에서 이어서 받는다.
+     * 윈도우 허용량보다 큰 요청도 여러 윈도우에 걸쳐 진행되며, 허용량을 하나도 받지 못한 채
+     * max-wait 를 넘겨야 할 때만 실패한다.
+     */
+    private Mono<Void> acquire(String senderKey, int needed, long deadline) {
+        long window = System.currentTimeMillis() / 1000;
+        int remaining = needed - takeLocal(senderKey, window, needed);
+        if (remaining == 0) {
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(() -> lease(senderKey, window, remaining))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(granted -> {
+                    int left = remaining - granted;
+                    if (left == 0) {
+                        return Mono.<Void>empty();
+                    }
+                    long now = System.currentTimeMillis();
+                    long nextDeadline = left < needed ? now + maxWaitMillis : deadline;
+                    long nextWindow = (window + 1) * 1000;
+                    if (nextWindow > nextDeadline) {
+                        return Mono.error(new SendRateExceededException(senderKey, left));
+                    }
+                    long waitMillis = Math.max(1, nextWindow - now);
+                    log.debug("Cluster quota for sender key {} exhausted ({} of {} permits left), waiting {} ms",
+                            senderKey, left, needed, waitMillis);
+                    return Mono.delay(Duration.ofMillis(waitMillis))
+                            .then(Mono.defer(() -> acquire(senderKey, left, nextDeadline)));
+                });
+    }
+
+    /**
+     * 현재 윈도우의 로컬 임대분에서 최대 permits 만큼 차감하고 실제로 차감한 양을 반환
+     */
+    private int takeLocal(String senderKey, long window, int permits) {
+        AtomicReference<Lease> ref = leases.computeIfAbsent(senderKey,
+                key -> new AtomicReference<>(Lease.EMPTY));
+        while (true) {
+            Lease lease = ref.get();
+            if (lease.window != window || lease.remaining == 0) {
+                return 0;
+            }
+            int taken = Math.min(lease.remaining, permits);
+            if (ref.compareAndSet(lease, new Lease(window, lease.remaining - taken))) {
+                return taken;
+            }
+        }
+    }
+
+    /**
+     * 윈도우 카운터를 증가시키고 실제로 받은 허용량을 반환 (최대 permits)
+     * 받은 허용량은 일부만 받았더라도 버리지 않고 요청에 사용하며, permits 를 넘는 나머지는 로컬 임대분에 적립한다.
+     */
+    private int lease(String senderKey, long window, int permits) {
+        int requested = Math.min(permitsPerSecond, Math.max(permits, leaseSize));
+        int usedAfter = sendRateMapper.lease(senderKey, window, requested);
+        int usedBefore = usedAfter - requested;
+        int granted = Math.max(0, Math.min(requested, permitsPerSecond - usedBefore));
+
+        int taken = Math.min(granted, permits);
+        int surplus = granted - taken;
+        if (surplus > 0) {
+            AtomicReference<Lease> ref = leases.get(senderKey);
+            while (true) {
+                Lease lease = ref.get();
+                int remaining = lease.window == window ? lease.remaining + surplus : surplus;
+                if (ref.compareAndSet(lease, new Lease(window, remaining))) {
+                    break;
+                }
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * 지난 윈도우 카운터 정리
+     */
+    @Scheduled(fixedDelayString = "${kakao.rate-limit.cleanup-interval:60000}")
+    public void purgeExpiredWindows() {
+        int deleted = sendRateMapper.deleteBefore(System.currentTimeMillis() / 1000 - 60);
+        if (deleted > 0) {
+            log.debug("Purged {} expired send rate windows", deleted);
+        }
+    }
+
+    private record Lease(long window, int remaining) {
+        private static final Lease EMPTY = new Lease(-1, 0);
+    }
+
+}
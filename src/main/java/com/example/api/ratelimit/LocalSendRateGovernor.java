@@ -0,0 +1,65 @@
+package com.example.api.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 발송 속도 제어 (노드 내부 lock-free 토큰 버킷)
+ * 대량 발송처럼 burst 를 넘는 요청은 burst 단위 예약으로 나누어 속도에 맞춰 기다린다.
+ */
+@Component
+@ConditionalOnProperty(name = "kakao.rate-limit.mode", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalSendRateGovernor implements SendRateGovernor {
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long maxWaitNanos;
+
+    public LocalSendRateGovernor(@Value("${kakao.rate-limit.permits-per-second:50}") double permitsPerSecond,
+                                 @Value("${kakao.rate-limit.burst:50}") int burst,
+                                 @Value("${kakao.rate-limit.max-wait:2s}") Duration maxWait) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public Mono<Void> acquire(String senderKey, int permits) {
+        return Mono.defer(() -> reserve(
+                buckets.computeIfAbsent(senderKey, key -> new TokenBucket(permitsPerSecond, burst)),
+                senderKey, permits));
+    }
+
+    /**
+     * burst 보다 큰 요청은 burst 단위로 나누어 예약하고, 앞 조각의 대기가 끝난 뒤 다음 조각을 예약
+     * (max-wait 는 조각마다 적용되므로 큰 요청도 거절되지 않고 초당 허용량에 맞춰 진행된다)
+     */
+    private Mono<Void> reserve(TokenBucket bucket, String senderKey, int permits) {
+        if (permits <= 0) {
+            return Mono.empty();
+        }
+        int slice = Math.min(permits, bucket.burst());
+        long waitNanos = bucket.reserve(slice, maxWaitNanos);
+        if (waitNanos < 0) {
+            return Mono.error(new SendRateExceededException(senderKey, slice));
+        }
+        Mono<Void> rest = Mono.defer(() -> reserve(bucket, senderKey, permits - slice));
+        if (waitNanos == 0) {
+            return rest;
+        }
+        log.debug("Pacing {} permits for sender key {}: waiting {} ms",
+                slice, senderKey, waitNanos / 1_000_000);
+        return Mono.delay(Duration.ofNanos(waitNanos)).then(rest);
+    }
+
+}
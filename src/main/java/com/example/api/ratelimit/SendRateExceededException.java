@@ -0,0 +1,9 @@
+package com.example.api.ratelimit;
+
+public class SendRateExceededException extends RuntimeException {
+
+    public SendRateExceededException(String senderKey, int permits) {
+        super("Send rate exceeded for sender key " + senderKey + " (" + permits + " permits)");
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.example.api.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 발신 키(sender-key / pfId) 단위 발송 속도 제어
+ * 허용량이 부족하면 짧게 대기한 뒤 완료되고,
+ * 최대 대기 시간을 넘겨야 하는 경우에만 SendRateExceededException 으로 실패한다.
+ */
+public interface SendRateGovernor {
+
+    Mono<Void> acquire(String senderKey, int permits);
+
+}
@@ -0,0 +1,55 @@
+package com.example.api.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free 토큰 버킷 (GCRA 방식)
+ * 버킷이 비는 시각(theoretical arrival time) 하나만 CAS로 갱신하므로
+ * 락이나 백그라운드 리필 스레드 없이 여러 스레드가 동시에 예약할 수 있다.
+ */
+public final class TokenBucket {
+
+    private final int burst;
+    private final long nanosPerPermit;
+    private final long burstNanos;
+    private final AtomicLong tat;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.burst = burst;
+        this.nanosPerPermit = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstNanos = nanosPerPermit * burst;
+        this.tat = new AtomicLong(System.nanoTime() - burstNanos);
+    }
+
+    /**
+     * permits 만큼 예약하고 실제 발송까지 기다려야 하는 시간(ns)을 반환
+     * 대기 시간이 maxWaitNanos 를 넘으면 예약하지 않고 -1 을 반환
+     * 한 번에 burst 보다 많이 예약할 수 없으므로 큰 요청은 호출하는 쪽에서 burst 단위로 나누어 예약한다.
+     */
+    public long reserve(int permits, long maxWaitNanos) {
+        if (permits <= 0 || permits > burst) {
+            throw new IllegalArgumentException("permits must be between 1 and burst (" + burst + "): " + permits);
+        }
+        long cost = nanosPerPermit * permits;
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long next = Math.max(current, now) + cost;
+            long wait = Math.max(0, next - now - burstNanos);
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return wait;
+            }
+        }
+    }
+
+    public int burst() {
+        return burst;
+    }
+
+}
@@ -0,0 +1,252 @@
+package com.example.api.scheduling;
+
+import com.example.api.entity.ScheduledNotification;
+import com.example.api.exception.CustomException;
+import com.example.api.mapper.ScheduledNotificationMapper;
+import com.example.api.messaging.dto.MessageType;
+import com.example.api.messaging.producer.MessagePublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 예약/지연 알림 발송
+ * - 모든 예약은 scheduled_notification 에 기록되어 재기동 후에도 유지
+ * - horizon 안에 발송할 예약은 이 노드가 가져가(LOADED) 메모리 타이밍 휠에 올림
+ *   (등록 시점에 horizon 안이면 바로 올리고, 먼 예약은 page-interval 마다 가까워진 것만 페이지 단위로 올림)
+ * - 휠에서 만료되면 트랜잭션 안에서 행을 삭제하고 MessagePublisher 로 발행 (실패 시 롤백 후 retry-delay 뒤 재시도)
+ * - 취소는 행을 삭제하며, 휠에 남은 항목은 만료 시 takeLoaded 에서 행이 없으므로 발송되지 않음
+ * - 노드가 죽으면 lease(horizon + page-interval + 1분)가 지난 LOADED 행을 다른 노드가 다시 가져감
+ */
+@Component
+@Slf4j
+public class NotificationScheduler {
+
+    private static final Duration LEASE_GRACE = Duration.ofMinutes(1);
+
+    private final ScheduledNotificationMapper scheduledNotificationMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+    private final ExecutorService dispatchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Autowired(required = false)
+    private MessagePublisher messagePublisher;
+
+    @Value("${notification.scheduling.tick:100ms}")
+    private Duration tick;
+
+    @Value("${notification.scheduling.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${notification.scheduling.horizon:5m}")
+    private Duration horizon;
+
+    @Value("${notification.scheduling.page-interval:30000}")
+    private long pageIntervalMillis;
+
+    @Value("${notification.scheduling.page-size:1000}")
+    private int pageSize;
+
+    @Value("${notification.scheduling.batch-size:500}")
+    private int batchSize;
+
+    @Value("${notification.scheduling.retry-delay:30s}")
+    private Duration retryDelay;
+
+    @Value("${notification.scheduling.publish-timeout:10s}")
+    private Duration publishTimeout;
+
+    private TimingWheel<Long> wheel;
+    private Thread ticker;
+    private volatile boolean running = true;
+
+    public NotificationScheduler(ScheduledNotificationMapper scheduledNotificationMapper,
+                                 ObjectMapper objectMapper,
+                                 TransactionTemplate transactionTemplate) {
+        this.scheduledNotificationMapper = scheduledNotificationMapper;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    public void start() {
+        wheel = new TimingWheel<>(tick.toMillis(), wheelSize, System.currentTimeMillis());
+        ticker = new Thread(this::run, "notification-scheduler");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        ticker.interrupt();
+        ticker.join(tick.toMillis() * 10);
+        dispatchExecutor.shutdown();
+        dispatchExecutor.awaitTermination(publishTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        int released = scheduledNotificationMapper.releaseOwned(owner);
+        if (released > 0) {
+            log.info("Released {} loaded scheduled notifications", released);
+        }
+    }
+
+    /**
+     * message(EmailMessage, KakaoMessage) 를 deliverAt 에 발행하도록 예약하고 예약 id 를 반환
+     */
+    public long schedule(Object message, Instant deliverAt) {
+        if (messagePublisher == null) {
+            throw new CustomException("Message publisher is not available",
+                    "PUBLISHER_UNAVAILABLE", 503);
+        }
+        MessageType type = MessageType.of(message);
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize scheduled message", e);
+        }
+
+        Instant now = Instant.now();
+        boolean nearTerm = deliverAt.isBefore(now.plus(horizon));
+        ScheduledNotification notification = ScheduledNotification.builder()
+                .messageType(type.name())
+                .payload(payload)
+                .deliverAt(toLocal(deliverAt))
+                .status(nearTerm ? "LOADED" : "PENDING")
+                .loadedBy(nearTerm ? owner : null)
+                .loadedAt(nearTerm ? toLocal(now) : null)
+                .build();
+        scheduledNotificationMapper.insert(notification);
+
+        // 호출자 트랜잭션이 롤백되어도 만료 시 행이 없으므로 발송되지 않음
+        if (nearTerm) {
+            wheel.schedule(notification.getId(), deliverAt.toEpochMilli());
+        }
+        log.debug("Scheduled {} notification {} at {}", type, notification.getId(), deliverAt);
+        return notification.getId();
+    }
+
+    public ScheduledNotification get(long id) {
+        ScheduledNotification notification = scheduledNotificationMapper.findById(id);
+        if (notification == null) {
+            throw new CustomException("Scheduled notification not found: " + id,
+                    "SCHEDULE_NOT_FOUND", 404);
+        }
+        return notification;
+    }
+
+    /**
+     * 발송 전이면 취소 (이미 발송되었거나 취소된 예약이면 false)
+     */
+    public boolean cancel(long id) {
+        return scheduledNotificationMapper.cancel(id) > 0;
+    }
+
+    /**
+     * horizon 안으로 들어온 예약을 페이지 단위로 가져와 휠에 올림
+     */
+    @Scheduled(fixedDelayString = "${notification.scheduling.page-interval:30000}")
+    public void pageIn() {
+        try {
+            List<ScheduledNotification> page;
+            do {
+                LocalDateTime now = LocalDateTime.now();
+                page = scheduledNotificationMapper.claimDue(
+                        toLocal(Instant.now().plus(horizon)),
+                        now.minus(horizon).minus(Duration.ofMillis(pageIntervalMillis)).minus(LEASE_GRACE),
+                        owner, now, pageSize);
+                for (ScheduledNotification notification : page) {
+                    wheel.schedule(notification.getId(),
+                            notification.getDeliverAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                }
+                if (!page.isEmpty()) {
+                    log.debug("Paged {} scheduled notifications into the timing wheel", page.size());
+                }
+            } while (page.size() == pageSize);
+        } catch (RuntimeException e) {
+            log.error("Failed to page scheduled notifications, will retry on next poll", e);
+        }
+    }
+
+    private void run() {
+        List<Long> due = new ArrayList<>();
+        while (running) {
+            try {
+                Thread.sleep(tick.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            wheel.advance(System.currentTimeMillis(), due::add);
+            for (int from = 0; from < due.size(); from += batchSize) {
+                List<Long> batch = List.copyOf(due.subList(from, Math.min(due.size(), from + batchSize)));
+                dispatchExecutor.execute(() -> dispatch(batch));
+            }
+            due.clear();
+        }
+    }
+
+    private void dispatch(List<Long> ids) {
+        try {
+            Integer sent = transactionTemplate.execute(status -> publish(ids));
+            log.debug("Dispatched {} scheduled notifications", sent);
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispatch {} scheduled notifications, retrying in {}: {}",
+                    ids.size(), retryDelay, e.getMessage());
+            long retryAt = System.currentTimeMillis() + retryDelay.toMillis();
+            ids.forEach(id -> wheel.schedule(id, retryAt));
+        }
+    }
+
+    private int publish(List<Long> ids) {
+        List<ScheduledNotification> rows = scheduledNotificationMapper.takeLoaded(ids, owner);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> messages = new ArrayList<>(rows.size());
+        for (ScheduledNotification row : rows) {
+            try {
+                MessageType type = MessageType.valueOf(row.getMessageType());
+                messages.add(objectMapper.readValue(row.getPayload(), type.payloadType()));
+            } catch (Exception e) {
+                // 역직렬화할 수 없는 행은 배치 전체를 막지 않도록 기록 후 제거
+                log.error("Dropping unreadable scheduled notification {}: {}", row.getId(), row.getPayload(), e);
+            }
+        }
+
+        try {
+            messagePublisher.sendAll(messages).get(publishTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing scheduled notifications", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to publish scheduled notifications", e);
+        }
+        return messages.size();
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+}
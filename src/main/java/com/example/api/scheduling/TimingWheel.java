@@ -0,0 +1,142 @@
+package com.example.api.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (Varghese &amp; Lauck)
+ * - 단계마다 wheel-size 개의 슬롯을 두고, 상위 단계 슬롯 하나가 하위 단계 한 바퀴를 덮음
+ *   (tick 100ms, 512 슬롯 기준 1단계 51초, 2단계 7시간, 3단계 155일)
+ * - 등록/만료 모두 O(1): 등록은 마감 tick 으로 슬롯을 계산해 연결 리스트에 붙이고,
+ *   하위 단계가 한 바퀴 돌 때마다 상위 슬롯 하나만 하위 단계로 내려 재배치
+ * - schedule 은 여러 스레드에서 호출할 수 있으며 (lock-free 대기열), advance 는 하나의 스레드에서만 호출해야 한다.
+ * 마감 시각은 tick 단위로 올림하므로 일찍 만료되지 않는다.
+ */
+public final class TimingWheel<T> {
+
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int bits;
+    private final int wheelSize;
+    private final int mask;
+    private final Node<T>[][] buckets;
+    private final Queue<Node<T>> pending = new ConcurrentLinkedQueue<>();
+
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.wheelSize = wheelSize;
+        this.mask = wheelSize - 1;
+        this.buckets = new Node[LEVELS][wheelSize];
+    }
+
+    /**
+     * deadlineMillis(epoch ms) 이후 첫 advance 에서 task 를 만료시킨다.
+     */
+    public void schedule(T task, long deadlineMillis) {
+        pending.add(new Node<>(task, Math.max(0, Math.ceilDiv(deadlineMillis - startMillis, tickMillis))));
+    }
+
+    /**
+     * nowMillis 까지 시간을 진행하면서 마감된 task 를 expired 로 전달
+     */
+    public void advance(long nowMillis, Consumer<? super T> expired) {
+        Node<T> node;
+        while ((node = pending.poll()) != null) {
+            place(node, expired);
+        }
+
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(expired);
+
+            int index = (int) (currentTick & mask);
+            node = buckets[0][index];
+            buckets[0][index] = null;
+            while (node != null) {
+                Node<T> next = node.next;
+                size--;
+                expired.accept(node.task);
+                node = next;
+            }
+        }
+    }
+
+    /**
+     * 휠에 배치된 task 수 (advance 스레드에서만 정확)
+     */
+    public int size() {
+        return size;
+    }
+
+    private void place(Node<T> node, Consumer<? super T> expired) {
+        long deadline = node.deadlineTick;
+        if (deadline <= currentTick) {
+            expired.accept(node.task);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = bits * level;
+            if ((deadline >>> shift) - (currentTick >>> shift) < wheelSize) {
+                add(level, (int) ((deadline >>> shift) & mask), node);
+                return;
+            }
+        }
+        // 최상위 단계 범위를 넘으면 가장 먼 슬롯에 두고, 내려올 때 다시 배치
+        int shift = bits * (LEVELS - 1);
+        add(LEVELS - 1, (int) (((currentTick >>> shift) + wheelSize - 1) & mask), node);
+    }
+
+    private void add(int level, int index, Node<T> node) {
+        node.next = buckets[level][index];
+        buckets[level][index] = node;
+        size++;
+    }
+
+    /**
+     * 하위 단계가 한 바퀴를 돈 시점이면 상위 단계의 현재 슬롯을 하위로 내린다 (상위 단계부터)
+     */
+    private void cascade(Consumer<? super T> expired) {
+        int top = 0;
+        while (top < LEVELS - 1 && (currentTick & ((1L << (bits * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            int index = (int) ((currentTick >>> (bits * level)) & mask);
+            Node<T> node = buckets[level][index];
+            buckets[level][index] = null;
+            while (node != null) {
+                Node<T> next = node.next;
+                node.next = null;
+                size--;
+                place(node, expired);
+                node = next;
+            }
+        }
+    }
+
+    private static final class Node<T> {
+
+        private final T task;
+        private final long deadlineTick;
+        private Node<T> next;
+
+        private Node(T task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.example.api.service;
+
+import com.example.api.batch.job.EmailCampaignJobConfig;
+import com.example.api.batch.writer.CampaignEmailWriter;
+import com.example.api.dto.request.CampaignRequest;
+import com.example.api.exception.CustomException;
+import com.example.api.mail.template.MailTemplateRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 대량 메일 캠페인 실행/조회/재시작/중지
+ * 캠페인은 수 분 이상 걸리므로 전용 비동기 JobLauncher 로 실행하고 실행 id 만 바로 반환한다.
+ * (기본 JobLauncher 는 동기 실행이므로 BatchController 등 다른 곳에서는 그대로 사용)
+ */
+@Service
+@Slf4j
+public class CampaignService {
+
+    private static final String DEFAULT_STATUS = "ACTIVE";
+
+    private final Job emailCampaignJob;
+    private final JobExplorer jobExplorer;
+    private final JobOperator jobOperator;
+    private final MailTemplateRegistry mailTemplateRegistry;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutorJobLauncher campaignJobLauncher;
+
+    public CampaignService(@Qualifier("emailCampaignJob") Job emailCampaignJob,
+                           JobRepository jobRepository,
+                           JobExplorer jobExplorer,
+                           JobOperator jobOperator,
+                           MailTemplateRegistry mailTemplateRegistry,
+                           ObjectMapper objectMapper) throws Exception {
+        this.emailCampaignJob = emailCampaignJob;
+        this.jobExplorer = jobExplorer;
+        this.jobOperator = jobOperator;
+        this.mailTemplateRegistry = mailTemplateRegistry;
+        this.objectMapper = objectMapper;
+
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("campaign-");
+        taskExecutor.setVirtualThreads(true);
+        this.campaignJobLauncher = new TaskExecutorJobLauncher();
+        this.campaignJobLauncher.setJobRepository(jobRepository);
+        this.campaignJobLauncher.setTaskExecutor(taskExecutor);
+        this.campaignJobLauncher.afterPropertiesSet();
+    }
+
+    /**
+     * 캠페인 시작
+     * campaignId 가 같은 완료된 실행이 있으면 JobInstanceAlreadyCompleteException 으로 거부된다.
+     */
+    public long start(CampaignRequest request) {
+        if (!mailTemplateRegistry.contains(request.getTemplate())) {
+            throw new CustomException("Mail template not found: " + request.getTemplate(),
+                    "TEMPLATE_NOT_FOUND", 400);
+        }
+
+        JobParameters parameters = new JobParametersBuilder()
+                .addString("campaignId", request.getCampaignId())
+                .addString("template", request.getTemplate(), false)
+                .addString("subject", request.getSubject(), false)
+                .addString("status", request.getStatus() != null ? request.getStatus() : DEFAULT_STATUS, false)
+                .addString("variables", toJson(request.getVariables()), false)
+                .toJobParameters();
+
+        JobExecution execution = launch(parameters);
+        log.info("Email campaign {} started - executionId: {}", request.getCampaignId(), execution.getId());
+        return execution.getId();
+    }
+
+    /**
+     * 실패/중지된 캠페인을 같은 파라미터로 다시 실행 (마지막 커밋 청크 다음 수신자부터 이어서 발송)
+     */
+    public long restart(long executionId) {
+        JobExecution previous = getExecution(executionId);
+        if (previous.isRunning()) {
+            throw new CustomException("Campaign is still running: " + executionId,
+                    "CAMPAIGN_RUNNING", 409);
+        }
+        JobExecution execution = launch(previous.getJobParameters());
+        log.info("Email campaign restarted - previous: {}, executionId: {}", executionId, execution.getId());
+        return execution.getId();
+    }
+
+    public void stop(long executionId) {
+        try {
+            jobOperator.stop(executionId);
+        } catch (Exception e) {
+            throw new CustomException("Failed to stop campaign " + executionId + ": " + e.getMessage(),
+                    "CAMPAIGN_NOT_RUNNING", 409);
+        }
+    }
+
+    public Map<String, Object> getStatus(long executionId) {
+        JobExecution execution = getExecution(executionId);
+
+        long read = 0;
+        long written = 0;
+        long filtered = 0;
+        long failed = 0;
+        for (StepExecution step : execution.getStepExecutions()) {
+            read += step.getReadCount();
+            written += step.getWriteCount();
+            filtered += step.getFilterCount();
+            failed += step.getExecutionContext().getLong(CampaignEmailWriter.FAILED_COUNT_KEY, 0L);
+        }
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("executionId", execution.getId());
+        status.put("campaignId", execution.getJobParameters().getString("campaignId"));
+        status.put("status", execution.getStatus());
+        status.put("exitCode", execution.getExitStatus().getExitCode());
+        status.put("readCount", read);
+        status.put("sentCount", written - failed);
+        status.put("failedCount", failed);
+        status.put("skippedCount", filtered);
+        status.put("startTime", execution.getStartTime());
+        status.put("endTime", execution.getEndTime());
+        return status;
+    }
+
+    private JobExecution launch(JobParameters parameters) {
+        try {
+            return campaignJobLauncher.run(emailCampaignJob, parameters);
+        } catch (Exception e) {
+            throw new CustomException("Failed to launch campaign: " + e.getMessage(),
+                    "CAMPAIGN_LAUNCH_FAILED", 409);
+        }
+    }
+
+    private JobExecution getExecution(long executionId) {
+        JobExecution execution = jobExplorer.getJobExecution(executionId);
+        if (execution == null
+                || !EmailCampaignJobConfig.JOB_NAME.equals(execution.getJobInstance().getJobName())) {
+            throw new CustomException("Campaign execution not found: " + executionId,
+                    "CAMPAIGN_NOT_FOUND", 404);
+        }
+        return execution;
+    }
+
+    private String toJson(Map<String, String> variables) {
+        if (variables == null || variables.isEmpty()) {
+            return "";
+        }
+        try {
+            return objectMapper.writeValueAsString(variables);
+        } catch (JsonProcessingException e) {
+            throw new CustomException("Invalid campaign variables", "INVALID_VARIABLES", 400);
+        }
+    }
+
+}
@@ -1,26 +1,45 @@
 package com.example.api.service;
 
+import com.example.api.audit.DeliveryLogSink;
+import com.example.api.mail.template.MailTemplateRegistry;
 import com.example.api.messaging.dto.EmailMessage;
-import com.example.api.messaging.producer.MessageProducer;
+import com.example.api.messaging.producer.MessagePublisher;
+import com.example.api.scheduling.NotificationScheduler;
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.io.UnsupportedEncodingException;
+import java.time.Instant;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @Slf4j
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final MailTemplateRegistry mailTemplateRegistry;
+    private final DeliveryLogSink deliveryLogSink;
+    private final NotificationScheduler notificationScheduler;
 
     @Autowired(required = false)
-    private MessageProducer messageProducer;
+    private MessagePublisher messagePublisher;
 
-    public EmailService(JavaMailSender mailSender) {
+    public EmailService(JavaMailSender mailSender, MailTemplateRegistry mailTemplateRegistry,
+                        DeliveryLogSink deliveryLogSink, NotificationScheduler notificationScheduler) {
         this.mailSender = mailSender;
+        this.mailTemplateRegistry = mailTemplateRegistry;
+        this.deliveryLogSink = deliveryLogSink;
+        this.notificationScheduler = notificationScheduler;
     }
 
     @Value("${mail.from.address}")
@@ -34,23 +53,73 @@ public class EmailService {
      */
     public void sendEmail(String to, String subject, String content) {
         try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromAddress, fromName);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(content, true); // true = HTML
+            MimeMessage message = createMimeMessage(to, subject, content);
 
             mailSender.send(message);
+            deliveryLogSink.recordEmail(to, subject, "SUCCESS", null);
             log.info("Email sent successfully to: {}", to);
 
         } catch (Exception e) {
             log.error("Failed to send email to: {}", to, e);
+            deliveryLogSink.recordEmail(to, subject, "FAILED", e.getMessage());
             throw new RuntimeException("Failed to send email", e);
         }
     }
 
+    /**
+     * 이메일 일괄 발송 (동기)
+     * 하나의 SMTP 세션으로 연속 발송하며, 실패한 메시지와 원인을 반환 (모두 성공하면 빈 Map)
+     */
+    public Map<EmailMessage, Exception> sendBatch(List<EmailMessage> messages) {
+        Map<EmailMessage, Exception> failures = new IdentityHashMap<>();
+        Map<MimeMessage, EmailMessage> mimeMessages = new IdentityHashMap<>();
+
+        for (EmailMessage message : messages) {
+            try {
+                mimeMessages.put(createMimeMessage(
+                        message.getRecipient(), message.getSubject(), message.getContent()), message);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                failures.put(message, e);
+            }
+        }
+
+        if (!mimeMessages.isEmpty()) {
+            try {
+                mailSender.send(mimeMessages.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                e.getFailedMessages().forEach((mimeMessage, error) ->
+                        failures.put(mimeMessages.get(mimeMessage), error));
+                if (e.getFailedMessages().isEmpty()) {
+                    mimeMessages.values().forEach(message -> failures.put(message, e));
+                }
+            } catch (MailException e) {
+                mimeMessages.values().forEach(message -> failures.put(message, e));
+            }
+        }
+
+        for (EmailMessage message : messages) {
+            Exception error = failures.get(message);
+            deliveryLogSink.recordEmail(message.getRecipient(), message.getSubject(),
+                    error == null ? "SUCCESS" : "FAILED", error == null ? null : error.getMessage());
+        }
+
+        log.info("Email batch sent: {} succeeded, {} failed",
+                messages.size() - failures.size(), failures.size());
+        return failures;
+    }
+
+    private MimeMessage createMimeMessage(String to, String subject, String content)
+            throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(fromAddress, fromName);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(content, true); // true = HTML
+        return message;
+    }
+
     /**
      * 이메일 발송 (비동기 - RabbitMQ)
      */
@@ -61,15 +130,41 @@ public class EmailService {
                 .content(content)
                 .build();
 
-        if (messageProducer != null) {
-            messageProducer.sendEmailMessage(emailMessage);
-            log.info("Email message queued for: {}", to);
+        if (messagePublisher != null) {
+            messagePublisher.sendEmailMessage(emailMessage)
+                    .whenComplete((unused, error) -> {
+                        if (error != null) {
+                            log.error("Failed to queue email message for: {}", to, error);
+                        } else {
+                            log.info("Email message queued for: {}", to);
+                        }
+                    });
         } else {
-            log.warn("MessageProducer is not available. Sending email synchronously instead.");
+            log.warn("MessagePublisher is not available. Sending email synchronously instead.");
             sendEmail(to, subject, content);
         }
     }
 
+    /**
+     * 이메일 예약 발송
+     * sendAt 이 없거나 지났으면 즉시 비동기 발송하고 null, 아니면 예약 id 를 반환
+     */
+    public Long sendEmailAsync(String to, String subject, String content, Instant sendAt) {
+        if (sendAt == null || !sendAt.isAfter(Instant.now())) {
+            sendEmailAsync(to, subject, content);
+            return null;
+        }
+
+        EmailMessage emailMessage = EmailMessage.builder()
+                .recipient(to)
+                .subject(subject)
+                .content(content)
+                .build();
+        long scheduleId = notificationScheduler.schedule(emailMessage, sendAt);
+        log.info("Email to {} scheduled at {} - scheduleId: {}", to, sendAt, scheduleId);
+        return scheduleId;
+    }
+
     /**
      * HTML 템플릿 이메일 발송
      */
@@ -82,7 +177,7 @@ public class EmailService {
      */
     public void sendWelcomeEmail(String to, String name) {
         String subject = "환영합니다! " + name + "님";
-        String content = buildWelcomeEmailContent(name);
+        String content = mailTemplateRegistry.render("welcome", Map.of("name", name));
         sendEmailAsync(to, subject, content);
     }
 
@@ -91,35 +186,8 @@ public class EmailService {
      */
     public void sendPasswordResetEmail(String to, String resetToken) {
         String subject = "비밀번호 재설정 요청";
-        String content = buildPasswordResetEmailContent(resetToken);
+        String content = mailTemplateRegistry.render("password-reset", Map.of("resetToken", resetToken));
         sendEmailAsync(to, subject, content);
     }
 
-    private String buildWelcomeEmailContent(String name) {
-        return String.format("""
-                <html>
-                <body>
-                    <h1>환영합니다, %s님!</h1>
-                    <p>My API Server에 가입해주셔서 감사합니다.</p>
-                    <p>지금 바로 서비스를 시작해보세요!</p>
-                    <a href="https://example.com/app" style="background-color: #4CAF50; color: white; padding: 10px 20px; text-decoration: none; border-radius: 5px;">서비스 시작하기</a>
-                </body>
-                </html>
-                """, name);
-    }
-
-    private String buildPasswordResetEmailContent(String resetToken) {
-        return String.format("""
-                <html>
-                <body>
-                    <h1>비밀번호 재설정</h1>
-                    <p>비밀번호 재설정을 요청하셨습니다.</p>
-                    <p>아래 링크를 클릭하여 비밀번호를 재설정하세요:</p>
-                    <a href="https://example.com/reset-password?token=%s" style="background-color: #008CBA; color: white; padding: 10px 20px; text-decoration: none; border-radius: 5px;">비밀번호 재설정</a>
-                    <p>이 링크는 24시간 동안 유효합니다.</p>
-                </body>
-                </html>
-                """, resetToken);
-    }
-
 }
@@ -1,16 +1,29 @@
 package com.example.api.service;
 
+import com.example.api.audit.DeliveryLogSink;
+import com.example.api.exception.CustomException;
 import com.example.api.kakao.client.KakaoApiClient;
+import com.example.api.kakao.dto.AlimtalkBatchResponse;
 import com.example.api.kakao.dto.AlimtalkRequest;
 import com.example.api.kakao.dto.FriendtalkRequest;
+import com.example.api.kakao.dto.FriendtalkResult;
 import com.example.api.kakao.dto.KakaoResponse;
+import com.example.api.kakao.template.KakaoTemplate;
+import com.example.api.kakao.template.KakaoTemplateRegistry;
 import com.example.api.messaging.dto.KakaoMessage;
-import com.example.api.messaging.producer.MessageProducer;
+import com.example.api.messaging.producer.MessagePublisher;
+import com.example.api.ratelimit.SendRateExceededException;
+import com.example.api.scheduling.NotificationScheduler;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -21,15 +34,26 @@ import java.util.stream.Collectors;
 public class KakaoService {
 
     private final KakaoApiClient kakaoApiClient;
+    private final DeliveryLogSink deliveryLogSink;
+    private final KakaoTemplateRegistry kakaoTemplateRegistry;
+    private final NotificationScheduler notificationScheduler;
 
     @Autowired(required = false)
-    private MessageProducer messageProducer;
+    private MessagePublisher messagePublisher;
 
     @Value("${kakao.api.sender-key}")
     private String senderKey;
 
-    public KakaoService(KakaoApiClient kakaoApiClient) {
+    @Value("${kakao.template.app-name:${mail.from.name}}")
+    private String appName;
+
+    public KakaoService(KakaoApiClient kakaoApiClient, DeliveryLogSink deliveryLogSink,
+                        KakaoTemplateRegistry kakaoTemplateRegistry,
+                        NotificationScheduler notificationScheduler) {
         this.kakaoApiClient = kakaoApiClient;
+        this.deliveryLogSink = deliveryLogSink;
+        this.kakaoTemplateRegistry = kakaoTemplateRegistry;
+        this.notificationScheduler = notificationScheduler;
     }
 
     /**
@@ -39,34 +63,91 @@ public class KakaoService {
                                       Map<String, String> variables,
                                       List<AlimtalkRequest.Button> buttons) {
 
-        AlimtalkRequest.KakaoOptions kakaoOptions = AlimtalkRequest.KakaoOptions.builder()
-                .senderKey(senderKey)
-                .templateCode(templateCode)
-                .variables(variables)
-                .buttons(buttons)
-                .build();
-
-        AlimtalkRequest request = AlimtalkRequest.builder()
-                .recipient(recipient)
-                .kakaoOptions(kakaoOptions)
-                .build();
+        AlimtalkRequest request = buildAlimtalkRequest(recipient, templateCode, variables, buttons);
 
         try {
             KakaoResponse response = kakaoApiClient.sendAlimtalk(request).block();
 
             // 발송 로그 저장
-            saveKakaoLog(recipient, "ALIMTALK", templateCode,
-                    "SUCCESS", response.getRequestId());
+            saveAlimtalkLog(request, "SUCCESS", response.getRequestId());
 
             return response;
+        } catch (CallNotPermittedException | BulkheadFullException | SendRateExceededException e) {
+            saveAlimtalkLog(request, "REJECTED", null);
+            throw unavailable("alimtalk", e);
         } catch (Exception e) {
             log.error("Failed to send alimtalk to {}", recipient, e);
-            saveKakaoLog(recipient, "ALIMTALK", templateCode,
-                    "FAILED", null);
+            saveAlimtalkLog(request, "FAILED", null);
             throw new RuntimeException("Failed to send alimtalk", e);
         }
     }
 
+    /**
+     * 알림톡 대량 발송 (동기)
+     * 공유 커넥션 풀과 다건 발송 API를 사용하여 수백 건을 한 번의 요청으로 보낸다.
+     */
+    public List<AlimtalkBatchResponse> sendAlimtalkBatch(List<AlimtalkRequest> requests) {
+        try {
+            return dispatchAlimtalkBatch(requests)
+                    .collectList()
+                    .block();
+        } catch (CallNotPermittedException | BulkheadFullException | SendRateExceededException e) {
+            requests.forEach(request -> saveAlimtalkLog(request, "REJECTED", null));
+            throw unavailable("alimtalk", e);
+        } catch (Exception e) {
+            log.error("Failed to send alimtalk batch of {} messages", requests.size(), e);
+            requests.forEach(request -> saveAlimtalkLog(request, "FAILED", null));
+            throw new RuntimeException("Failed to send alimtalk batch", e);
+        }
+    }
+
+    /**
+     * 알림톡 대량 발송 (비동기)
+     * 분할 요청마다 응답이 도착하는 즉시 발송 로그를 남긴다.
+     */
+    public Flux<AlimtalkBatchResponse> dispatchAlimtalkBatch(List<AlimtalkRequest> requests) {
+        Map<String, AlimtalkRequest> byRecipient = new HashMap<>(requests.size() * 2);
+        requests.forEach(request -> byRecipient.put(request.getRecipient(), request));
+
+        return kakaoApiClient.sendAlimtalkBatch(requests)
+                .doOnNext(response -> saveBatchLogs(response, byRecipient));
+    }
+
+    /**
+     * 큐 메시지로부터 알림톡 발송 요청 생성
+     */
+    public AlimtalkRequest buildAlimtalkRequest(KakaoMessage message) {
+        return buildAlimtalkRequest(
+                message.getRecipient(),
+                message.getTemplateCode(),
+                message.getVariables(),
+                convertFromButtonDto(message.getButtons()));
+    }
+
+    /**
+     * 알림톡 발송 요청 생성
+     * 템플릿과 변수를 먼저 검증하므로 잘못된 요청은 공급자 호출 없이 CustomException(400) 으로 실패한다.
+     * templateCode 는 Solapi 코드 또는 KakaoTemplateCode 이름을 받으며, 버튼이 없으면 템플릿 기본 버튼을 사용
+     */
+    public AlimtalkRequest buildAlimtalkRequest(String recipient, String templateCode,
+                                                Map<String, String> variables,
+                                                List<AlimtalkRequest.Button> buttons) {
+
+        KakaoTemplate template = kakaoTemplateRegistry.validate(templateCode, variables);
+
+        AlimtalkRequest.KakaoOptions kakaoOptions = AlimtalkRequest.KakaoOptions.builder()
+                .senderKey(senderKey)
+                .templateCode(template.code())
+                .variables(variables)
+                .buttons(buttons != null || template.buttons().isEmpty() ? buttons : template.buttons())
+                .build();
+
+        return AlimtalkRequest.builder()
+                .recipient(recipient)
+                .kakaoOptions(kakaoOptions)
+                .build();
+    }
+
     /**
      * 알림톡 발송 (비동기 - RabbitMQ)
      */
@@ -74,26 +155,94 @@ public class KakaoService {
                                    Map<String, String> variables,
                                    List<AlimtalkRequest.Button> buttons) {
 
+        // 큐에 넣기 전에 검증하여 잘못된 요청이 재시도/parking 큐까지 가지 않도록 함
+        KakaoTemplate template = kakaoTemplateRegistry.validate(templateCode, variables);
+
         KakaoMessage message = KakaoMessage.builder()
                 .recipient(recipient)
                 .messageType("ALIMTALK")
-                .templateCode(templateCode)
+                .templateCode(template.code())
                 .variables(variables)
                 .buttons(convertToButtonDto(buttons))
                 .build();
 
-        if (messageProducer != null) {
-            messageProducer.sendKakaoMessage(message);
+        if (messagePublisher != null) {
+            messagePublisher.sendKakaoMessage(message)
+                    .whenComplete((unused, error) -> {
+                        if (error != null) {
+                            log.error("Failed to queue kakao message: {}", message, error);
+                        }
+                    });
         } else {
-            log.warn("MessageProducer is not available. Message not sent: {}", message);
+            log.warn("MessagePublisher is not available. Message not sent: {}", message);
         }
     }
 
+    /**
+     * 알림톡 예약 발송
+     * 템플릿/변수는 예약 시점에 검증하며, sendAt 이 없거나 지났으면 즉시 비동기 발송하고 null, 아니면 예약 id 를 반환
+     */
+    public Long sendAlimtalkAsync(String recipient, String templateCode,
+                                  Map<String, String> variables,
+                                  List<AlimtalkRequest.Button> buttons,
+                                  Instant sendAt) {
+        if (sendAt == null || !sendAt.isAfter(Instant.now())) {
+            sendAlimtalkAsync(recipient, templateCode, variables, buttons);
+            return null;
+        }
+
+        KakaoTemplate template = kakaoTemplateRegistry.validate(templateCode, variables);
+        KakaoMessage message = KakaoMessage.builder()
+                .recipient(recipient)
+                .messageType("ALIMTALK")
+                .templateCode(template.code())
+                .variables(variables)
+                .buttons(convertToButtonDto(buttons))
+                .build();
+        long scheduleId = notificationScheduler.schedule(message, sendAt);
+        log.info("Alimtalk to {} scheduled at {} - scheduleId: {}", recipient, sendAt, scheduleId);
+        return scheduleId;
+    }
+
     /**
      * 친구톡 발송 (동기)
+     * 수신자 목록은 API 한도 단위로 나누어 동시에 발송하고 결과를 합산한다.
+     * 일부 수신자만 실패하면 결과에 실패 목록을 담아 반환하고, 전부 실패한 경우에만 예외를 던진다.
      */
-    public KakaoResponse sendFriendtalk(List<String> receiverUuids, String text,
-                                        String buttonTitle, String webUrl) {
+    public FriendtalkResult sendFriendtalk(List<String> receiverUuids, String text,
+                                          String buttonTitle, String webUrl) {
+
+        FriendtalkRequest request = buildFriendtalkRequest(receiverUuids, text, buttonTitle, webUrl);
+
+        FriendtalkResult result;
+        try {
+            result = kakaoApiClient.sendFriendtalkChunked(request).block();
+        } catch (Exception e) {
+            log.error("Failed to send friendtalk", e);
+            receiverUuids.forEach(uuid ->
+                    saveKakaoLog(uuid, "FRIENDTALK", null, text, "FAILED", null));
+            throw new RuntimeException("Failed to send friendtalk", e);
+        }
+
+        // 발송 로그 저장
+        saveFriendtalkLogs(result, text);
+
+        if (result.isAllFailed()) {
+            Throwable error = result.getFirstError();
+            if (isRejection(error)) {
+                throw unavailable("friendtalk", (RuntimeException) error);
+            }
+            log.error("Failed to send friendtalk", error);
+            throw new RuntimeException("Failed to send friendtalk", error);
+        }
+        return result;
+    }
+
+    /**
+     * 친구톡 발송 요청 생성
+     */
+    public FriendtalkRequest buildFriendtalkRequest(List<String> receiverUuids, String text,
+                                                    String buttonTitle, String webUrl) {
 
         FriendtalkRequest.Link link = FriendtalkRequest.Link.builder()
                 .webUrl(webUrl)
@@ -108,26 +257,10 @@ public class KakaoService {
                         .buttonTitle(buttonTitle)
                         .build();
 
-        FriendtalkRequest request = FriendtalkRequest.builder()
+        return FriendtalkRequest.builder()
                 .receiverUuids(receiverUuids)
                 .templateObject(templateObject)
                 .build();
-
-        try {
-            KakaoResponse response = kakaoApiClient.sendFriendtalk(request).block();
-
-            // 발송 로그 저장
-            receiverUuids.forEach(uuid ->
-                    saveKakaoLog(uuid, "FRIENDTALK", null,
-                            "SUCCESS", response.getRequestId()));
-
-            return response;
-        } catch (Exception e) {
-            log.error("Failed to send friendtalk", e);
-            receiverUuids.forEach(uuid ->
-                    saveKakaoLog(uuid, "FRIENDTALK", null, "FAILED", null));
-            throw new RuntimeException("Failed to send friendtalk", e);
-        }
     }
 
     /**
@@ -144,11 +277,89 @@ public class KakaoService {
                 .webUrl(webUrl)
                 .build();
 
-        if (messageProducer != null) {
-            messageProducer.sendKakaoMessage(message);
+        if (messagePublisher != null) {
+            messagePublisher.sendKakaoMessage(message)
+                    .whenComplete((unused, error) -> {
+                        if (error != null) {
+                            log.error("Failed to queue kakao message: {}", message, error);
+                        }
+                    });
         } else {
-            log.warn("MessageProducer is not available. Message not sent: {}", message);
+            log.warn("MessagePublisher is not available. Message not sent: {}", message);
+        }
+    }
+
+    /**
+     * 큐에서 꺼낸 카카오 메시지 발송
+     * 공급자 응답이 올 때까지 완료되지 않으므로 호출 측에서 응답 이후에 ack/nack 할 수 있다.
+     */
+    public Mono<?> dispatchQueuedMessage(KakaoMessage message) {
+        if ("ALIMTALK".equals(message.getMessageType())) {
+            AlimtalkRequest request;
+            try {
+                request = buildAlimtalkRequest(message);
+            } catch (CustomException e) {
+                return Mono.error(e);
+            }
+
+            return kakaoApiClient.sendAlimtalk(request)
+                    .doOnSuccess(response ->
+                            saveAlimtalkLog(request, "SUCCESS", response.getRequestId()))
+                    .doOnError(error ->
+                            saveAlimtalkLog(request, "FAILED", null));
+        }
+
+        if ("FRIENDTALK".equals(message.getMessageType())) {
+            FriendtalkRequest request = buildFriendtalkRequest(
+                    message.getReceiverUuids(),
+                    message.getContent(),
+                    message.getButtonTitle(),
+                    message.getWebUrl());
+
+            // 일부 수신자만 실패한 경우 메시지 전체를 재시도하면 성공한 수신자에게 중복 발송되므로,
+            // 실패한 수신자만 담은 메시지를 다시 발행하고 원래 메시지는 완료 처리
+            return kakaoApiClient.sendFriendtalkChunked(request)
+                    .flatMap(result -> {
+                        saveFriendtalkLogs(result, message.getContent());
+                        if (result.isAllFailed()) {
+                            return Mono.error(result.getFirstError());
+                        }
+                        if (result.getFailedReceiverUuids().isEmpty()) {
+                            return Mono.just(result);
+                        }
+                        return requeueFailedReceivers(message, result).thenReturn(result);
+                    });
+        }
+
+        return Mono.error(new IllegalArgumentException(
+                "Unsupported kakao message type: " + message.getMessageType()));
+    }
+
+    /**
+     * 친구톡 일부 실패 시 실패한 수신자만 담아 다시 발행
+     * 매번 성공한 수신자가 빠지므로 반복은 유한하며, 전부 실패하면 일반 재시도/parking 경로를 탄다.
+     * 발행에 실패하면 오류를 반환하여 원래 메시지를 재시도한다 (성공한 수신자 중복 발송보다 누락을 피함).
+     */
+    private Mono<Void> requeueFailedReceivers(KakaoMessage message, FriendtalkResult result) {
+        List<String> failed = List.copyOf(result.getFailedReceiverUuids());
+        if (messagePublisher == null) {
+            log.warn("MessagePublisher is not available. {} failed friendtalk receivers are not retried",
+                    failed.size());
+            return Mono.empty();
         }
+
+        KakaoMessage retry = KakaoMessage.builder()
+                .messageType(message.getMessageType())
+                .receiverUuids(failed)
+                .content(message.getContent())
+                .subject(message.getSubject())
+                .buttonTitle(message.getButtonTitle())
+                .webUrl(message.getWebUrl())
+                .buttons(message.getButtons())
+                .build();
+        log.info("Requeueing friendtalk for {} of {} receivers that failed",
+                failed.size(), message.getReceiverUuids().size());
+        return Mono.fromFuture(() -> messagePublisher.sendKakaoMessage(retry));
     }
 
     /**
@@ -157,6 +368,7 @@ public class KakaoService {
     public void sendWelcomeAlimtalk(String phone, String name) {
         Map<String, String> variables = new HashMap<>();
         variables.put("name", name);
+        variables.put("appName", appName);
         variables.put("date", LocalDateTime.now()
                 .format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일")));
 
@@ -198,13 +410,86 @@ public class KakaoService {
         sendAlimtalkAsync(phone, "ORDER_CONFIRMATION_TEMPLATE", variables, buttons);
     }
 
-    private void saveKakaoLog(String recipient, String messageType,
-                              String templateCode, String status, String requestId) {
-        // DB에 발송 로그 저장 (MyBatis 사용)
-        log.info("Saved kakao log - recipient: {}, type: {}, status: {}",
+    private void saveBatchLogs(AlimtalkBatchResponse response, Map<String, AlimtalkRequest> byRecipient) {
+        if (response.getMessageList() != null) {
+            response.getMessageList().forEach(result ->
+                    saveBatchLog(result.getTo(), byRecipient, "SUCCESS", result.getMessageId()));
+        }
+        if (response.getFailedMessageList() != null) {
+            response.getFailedMessageList().forEach(result ->
+                    saveBatchLog(result.getTo(), byRecipient, "FAILED", result.getMessageId()));
+        }
+    }
+
+    private void saveBatchLog(String recipient, Map<String, AlimtalkRequest> byRecipient,
+                              String status, String requestId) {
+        AlimtalkRequest request = byRecipient.get(recipient);
+        if (request != null) {
+            saveAlimtalkLog(request, status, requestId);
+        } else {
+            saveKakaoLog(recipient, "ALIMTALK", null, null, status, requestId);
+        }
+    }
+
+    /**
+     * 친구톡 발송 로그 (분할 요청 결과를 한 번에 기록)
+     */
+    private void saveFriendtalkLogs(FriendtalkResult result, String text) {
+        result.forEachSuccessful((uuid, requestId) ->
+                saveKakaoLog(uuid, "FRIENDTALK", null, text, "SUCCESS", requestId));
+        String failedStatus = result.isAllFailed() && isRejection(result.getFirstError()) ? "REJECTED" : "FAILED";
+        result.getFailedReceiverUuids().forEach(uuid ->
+                saveKakaoLog(uuid, "FRIENDTALK", null, text, failedStatus, null));
+    }
+
+    private static boolean isRejection(Throwable error) {
+        return error instanceof CallNotPermittedException
+                || error instanceof BulkheadFullException
+                || error instanceof SendRateExceededException;
+    }
+
+    /**
+     * 알림톡 발송 로그 (미리 컴파일된 템플릿으로 렌더링한 본문을 content 에 기록)
+     */
+    private void saveAlimtalkLog(AlimtalkRequest request, String status, String requestId) {
+        AlimtalkRequest.KakaoOptions options = request.getKakaoOptions();
+        saveKakaoLog(request.getRecipient(), "ALIMTALK", options.getTemplateCode(),
+                kakaoTemplateRegistry.renderOrNull(options.getTemplateCode(), options.getVariables()),
+                status, requestId);
+    }
+
+    private void saveKakaoLog(String recipient, String messageType, String templateCode,
+                              String content, String status, String requestId) {
+        // 발송 경로를 막지 않도록 write-behind 로 kakao_message_log 에 기록
+        deliveryLogSink.recordKakao(recipient, messageType, templateCode, content, status, null, requestId);
+        log.debug("Recorded kakao log - recipient: {}, type: {}, status: {}",
                 recipient, messageType, status);
     }
 
+    /**
+     * 서킷 오픈, 동시 호출 한도 초과, 발송 속도 한도 초과 시 즉시 실패 (요청 스레드를 타임아웃까지 붙잡지 않음)
+     */
+    private CustomException unavailable(String messageType, RuntimeException cause) {
+        log.warn("Kakao {} call rejected: {}", messageType, cause.getMessage());
+        return new CustomException(
+                "Kakao " + messageType + " is temporarily unavailable: " + cause.getMessage(),
+                "KAKAO_UNAVAILABLE", 503);
+    }
+
+    private List<AlimtalkRequest.Button> convertFromButtonDto(
+            List<KakaoMessage.ButtonDto> buttons) {
+        if (buttons == null) return null;
+
+        return buttons.stream()
+                .map(btn -> AlimtalkRequest.Button.builder()
+                        .type(btn.getType())
+                        .name(btn.getName())
+                        .linkMobile(btn.getLinkMobile())
+                        .linkPc(btn.getLinkPc())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     private List<KakaoMessage.ButtonDto> convertToButtonDto(
             List<AlimtalkRequest.Button> buttons) {
         if (buttons == null) return null;
@@ -0,0 +1,208 @@
+package com.example.api.service;
+
+import com.example.api.exception.CustomException;
+import com.example.api.kakao.dto.KakaoResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멀티채널 알림 동시 발송
+ * - 채널별 발송을 가상 스레드에서 동시에 실행하므로 전체 지연은 가장 느린 채널 기준
+ * - 모든 채널(폴백 포함)이 하나의 deadline을 공유하며, 초과한 채널은 TIMED_OUT으로 응답
+ * - 폴백 규칙(예: ALIMTALK:EMAIL)은 원 채널이 FAILED 또는 SKIPPED(수신 정보 없음)일 때 적용
+ *   (TIMED_OUT은 실제로는 전달될 수 있어 중복 발송을 피하기 위해 폴백하지 않음)
+ */
+@Service
+@Slf4j
+public class MultiChannelDispatcher {
+
+    public enum Channel {
+        EMAIL, ALIMTALK
+    }
+
+    public enum Status {
+        SENT, FAILED, TIMED_OUT, SKIPPED
+    }
+
+    public record Notification(String email, String phone, String name,
+                               String subject, String content) {
+    }
+
+    public record ChannelResult(Channel channel, Status status, String detail,
+                                boolean fallback, long elapsedMillis) {
+    }
+
+    private static final String ALIMTALK_TEMPLATE = "NOTIFICATION_TEMPLATE";
+
+    private final EmailService emailService;
+    private final KakaoService kakaoService;
+    private final Duration deadline;
+    private final Map<Channel, Channel> defaultFallbacks;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public MultiChannelDispatcher(EmailService emailService, KakaoService kakaoService,
+                                  @Value("${notification.multi-channel.deadline:10s}") Duration deadline,
+                                  @Value("${notification.multi-channel.fallback:ALIMTALK:EMAIL}") String fallback) {
+        this.emailService = emailService;
+        this.kakaoService = kakaoService;
+        this.deadline = deadline;
+        this.defaultFallbacks = parseFallbacks(fallback);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public Map<Channel, Channel> getDefaultFallbacks() {
+        return defaultFallbacks;
+    }
+
+    /**
+     * 채널 동시 발송
+     * 반환 목록은 요청 채널 순서이며, 폴백이 실행된 경우 원 채널 결과 바로 뒤에 위치
+     */
+    public List<ChannelResult> dispatch(Notification notification, Set<Channel> channels,
+                                        Map<Channel, Channel> fallbacks) {
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+
+        List<CompletableFuture<List<ChannelResult>>> legs = new ArrayList<>(channels.size());
+        for (Channel channel : channels) {
+            Channel fallback = fallbacks.get(channel);
+            CompletableFuture<ChannelResult> primary = submit(channel, notification, false, deadlineNanos);
+
+            if (fallback == null || channels.contains(fallback)) {
+                // 폴백 대상이 이미 요청된 채널이면 중복 발송하지 않는다
+                legs.add(primary.thenApply(List::of));
+            } else {
+                legs.add(primary.thenCompose(result -> !needsFallback(result)
+                        ? CompletableFuture.completedFuture(List.of(result))
+                        : submit(fallback, notification, true, deadlineNanos)
+                                .thenApply(next -> List.of(result, next))));
+            }
+        }
+
+        // 각 단계가 deadline에 맞춰 완료되므로 join은 deadline을 넘겨 대기하지 않는다
+        List<ChannelResult> results = new ArrayList<>();
+        for (CompletableFuture<List<ChannelResult>> leg : legs) {
+            results.addAll(leg.join());
+        }
+        return results;
+    }
+
+    /**
+     * 원 채널로 아무것도 보내지 않은 것이 확실한 경우에만 폴백 (실패 또는 해당 채널 수신 정보 없음)
+     */
+    private static boolean needsFallback(ChannelResult result) {
+        return result.status() == Status.FAILED || result.status() == Status.SKIPPED;
+    }
+
+    private CompletableFuture<ChannelResult> submit(Channel channel, Notification notification,
+                                                    boolean fallback, long deadlineNanos) {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining <= 0) {
+            return CompletableFuture.completedFuture(
+                    new ChannelResult(channel, Status.TIMED_OUT, "Deadline exceeded before dispatch", fallback, 0));
+        }
+
+        long started = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> send(channel, notification, fallback, started), executor)
+                .completeOnTimeout(new ChannelResult(channel, Status.TIMED_OUT,
+                                "Deadline exceeded; delivery may still complete", fallback,
+                                TimeUnit.NANOSECONDS.toMillis(remaining)),
+                        remaining, TimeUnit.NANOSECONDS);
+    }
+
+    private ChannelResult send(Channel channel, Notification notification, boolean fallback, long started) {
+        try {
+            String detail = switch (channel) {
+                case EMAIL -> sendEmail(notification);
+                case ALIMTALK -> sendAlimtalk(notification);
+            };
+            Status status = detail == null ? Status.SKIPPED : Status.SENT;
+            return new ChannelResult(channel, status,
+                    detail == null ? "No recipient for channel" : detail, fallback, elapsedMillis(started));
+        } catch (Exception e) {
+            log.warn("Multi-channel {} delivery failed (fallback={})", channel, fallback, e);
+            String message = e instanceof CustomException ? e.getMessage()
+                    : e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            return new ChannelResult(channel, Status.FAILED, message, fallback, elapsedMillis(started));
+        }
+    }
+
+    private String sendEmail(Notification notification) {
+        if (!StringUtils.hasText(notification.email())) {
+            return null;
+        }
+        emailService.sendEmail(notification.email(), notification.subject(), notification.content());
+        return notification.email();
+    }
+
+    private String sendAlimtalk(Notification notification) {
+        if (!StringUtils.hasText(notification.phone())) {
+            return null;
+        }
+        Map<String, String> variables = new LinkedHashMap<>();
+        variables.put("name", notification.name());
+        variables.put("content", notification.content());
+
+        KakaoResponse response = kakaoService.sendAlimtalk(notification.phone(), ALIMTALK_TEMPLATE, variables, null);
+        return response != null && response.getRequestId() != null ? response.getRequestId() : notification.phone();
+    }
+
+    private static long elapsedMillis(long started) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+
+    /**
+     * 폴백 규칙 파싱
+     * 형식: "ALIMTALK:EMAIL,EMAIL:ALIMTALK" (원 채널:폴백 채널), 빈 문자열이면 폴백 없음
+     */
+    public static Map<Channel, Channel> parseFallbacks(String rules) {
+        if (!StringUtils.hasText(rules)) {
+            return Collections.emptyMap();
+        }
+        Map<Channel, Channel> fallbacks = new EnumMap<>(Channel.class);
+        for (String rule : StringUtils.commaDelimitedListToStringArray(rules)) {
+            String[] pair = rule.trim().split(":");
+            if (pair.length != 2) {
+                throw new CustomException("Invalid fallback rule: " + rule,
+                        "INVALID_FALLBACK_RULE", HttpStatus.BAD_REQUEST.value());
+            }
+            Channel from = parseChannel(pair[0]);
+            Channel to = parseChannel(pair[1]);
+            if (from != to) {
+                fallbacks.put(from, to);
+            }
+        }
+        return Collections.unmodifiableMap(fallbacks);
+    }
+
+    public static Channel parseChannel(String value) {
+        try {
+            return Channel.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("Unknown channel: " + value,
+                    "INVALID_CHANNEL", HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+}
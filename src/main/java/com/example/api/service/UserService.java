@@ -2,25 +2,85 @@ package com.example.api.service;
 
 import com.example.api.dto.request.UserCreateRequest;
 import com.example.api.dto.request.UserUpdateRequest;
+import com.example.api.dto.response.UserPageResponse;
 import com.example.api.dto.response.UserResponse;
 import com.example.api.entity.User;
+import com.example.api.entity.UserField;
+import com.example.api.exception.CustomException;
 import com.example.api.mapper.UserMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserService {
 
+    private static final String CURSOR_SEPARATOR = "|";
+    private static final int EXPORT_FLUSH_ROWS = 1000;
+
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static ExportFormat of(String value) {
+            for (ExportFormat format : values()) {
+                if (format.name().equalsIgnoreCase(value) || format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new CustomException("Unsupported export format: " + value,
+                    "INVALID_EXPORT_FORMAT", HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    @Value("${user.page.max-limit:500}")
+    private int maxPageSize;
 
     @Transactional(readOnly = true)
     public UserResponse findById(Long id) {
@@ -40,11 +100,130 @@ public class UserService {
         return convertToResponse(user);
     }
 
+    /**
+     * 사용자 목록 keyset 페이지 (created_at, id 내림차순)
+     * OFFSET 없이 커서 이후 행만 인덱스로 읽으므로 페이지 위치와 무관하게 비용이 일정하다.
+     * limit 는 1 ~ user.page.max-limit 으로 보정하며, fields 에 지정한 컬럼만 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public UserPageResponse findPage(String cursor, int limit, Set<UserField> fields) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+
+        // 커서 생성을 위해 id, created_at 은 항상 조회
+        Set<UserField> columns = EnumSet.of(UserField.ID, UserField.CREATED_AT);
+        columns.addAll(fields);
+
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (StringUtils.hasText(cursor)) {
+            String[] position = decodeCursor(cursor);
+            cursorCreatedAt = LocalDateTime.parse(position[0]);
+            cursorId = Long.parseLong(position[1]);
+        }
+
+        List<User> users = userMapper.findPage(
+                columns.stream().map(UserField::column).toList(), cursorCreatedAt, cursorId, pageSize + 1);
+
+        boolean hasNext = users.size() > pageSize;
+        List<User> page = hasNext ? users.subList(0, pageSize) : users;
+
+        List<Map<String, Object>> items = new ArrayList<>(page.size());
+        for (User user : page) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (UserField field : fields) {
+                item.put(field.property(), field.valueOf(user));
+            }
+            items.add(item);
+        }
+
+        User last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return UserPageResponse.builder()
+                .items(items)
+                .nextCursor(hasNext ? encodeCursor(last) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 전체 사용자 내보내기 (id 순)
+     * MyBatis Cursor 로 한 행씩 읽어 바로 out 에 기록하므로 메모리 사용량은 테이블 크기와 무관하다.
+     * EXPORT_FLUSH_ROWS 마다 flush 하여 클라이언트가 끊기면 다음 flush 의 IOException 으로 즉시 중단되고,
+     * 커서와 트랜잭션은 예외와 함께 정리된다.
+     *
+     * @return 기록한 행 수
+     */
     @Transactional(readOnly = true)
-    public List<UserResponse> findAll() {
-        return userMapper.findAll().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+    public long export(Set<UserField> fields, ExportFormat format, OutputStream out) throws IOException {
+        List<String> columns = fields.stream().map(UserField::column).toList();
+        try (Cursor<User> cursor = userMapper.streamAll(columns)) {
+            return switch (format) {
+                case NDJSON -> writeNdjson(cursor, fields, out);
+                case CSV -> writeCsv(cursor, fields, out);
+            };
+        }
+    }
+
+    private long writeNdjson(Cursor<User> cursor, Set<UserField> fields, OutputStream out) throws IOException {
+        long rows = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (User user : cursor) {
+                generator.writeStartObject();
+                for (UserField field : fields) {
+                    generator.writeFieldName(field.property());
+                    generator.writeObject(field.valueOf(user));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                if (++rows % EXPORT_FLUSH_ROWS == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return rows;
+    }
+
+    private long writeCsv(Cursor<User> cursor, Set<UserField> fields, OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        StringJoiner header = new StringJoiner(",", "", "\r\n");
+        fields.forEach(field -> header.add(field.property()));
+        writer.write(header.toString());
+
+        for (User user : cursor) {
+            boolean first = true;
+            for (UserField field : fields) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writeCsvValue(writer, field.valueOf(user));
+            }
+            writer.write("\r\n");
+            if (++rows % EXPORT_FLUSH_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    /**
+     * RFC 4180: 구분자/따옴표/개행이 있으면 따옴표로 감싸고 따옴표는 두 번 기록
+     */
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
     }
 
     @Transactional
@@ -130,6 +309,26 @@ public class UserService {
         return user;
     }
 
+    private static String encodeCursor(User user) {
+        String position = user.getCreatedAt() + CURSOR_SEPARATOR + user.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(CURSOR_SEPARATOR);
+            String[] parts = {position.substring(0, separator), position.substring(separator + 1)};
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new CustomException("Invalid cursor: " + cursor,
+                    "INVALID_CURSOR", HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
     private UserResponse convertToResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
@@ -0,0 +1,128 @@
+package com.example.api.template;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 미리 컴파일된 템플릿
+ * - 원문을 한 번만 파싱하여 [고정 문자열, 슬롯, 고정 문자열, ...] 구간 목록으로 보관
+ * - 렌더링은 구간을 순서대로 버퍼에 이어 붙이기만 하므로 정규식/포맷 파싱 비용이 없음
+ * - 슬롯 값은 escaping 규칙에 따라 이스케이프 (HTML 메일은 HTML, 카카오 템플릿은 NONE)
+ */
+public final class TemplatePlan {
+
+    public enum Escaping {
+        NONE,
+        HTML
+    }
+
+    private final String name;
+    private final Escaping escaping;
+    private final String[] literals;  // literals[i] 다음에 slots[i] (마지막 literal 뒤에는 슬롯 없음)
+    private final String[] slots;
+    private final Set<String> slotNames;
+    private final int literalLength;
+
+    private TemplatePlan(String name, Escaping escaping, List<String> literals, List<String> slots) {
+        this.name = name;
+        this.escaping = escaping;
+        this.literals = literals.toArray(String[]::new);
+        this.slots = slots.toArray(String[]::new);
+        this.slotNames = Collections.unmodifiableSet(new LinkedHashSet<>(slots));
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * open/close 로 감싼 이름을 슬롯으로 인식 (예: "{{", "}}" 또는 "#{", "}")
+     */
+    public static TemplatePlan compile(String name, String source, String open, String close, Escaping escaping) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int start = source.indexOf(open, position);
+            if (start < 0) {
+                break;
+            }
+            int end = source.indexOf(close, start + open.length());
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in template " + name + " at " + start);
+            }
+            literals.add(source.substring(position, start));
+            slots.add(source.substring(start + open.length(), end).trim());
+            position = end + close.length();
+        }
+        literals.add(source.substring(position));
+
+        return new TemplatePlan(name, escaping, literals, slots);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * 템플릿에 등장하는 슬롯 이름 (등장 순서, 중복 제거)
+     */
+    public Set<String> slotNames() {
+        return slotNames;
+    }
+
+    /**
+     * 고정 문자열 길이 합 (버퍼 크기 추정용)
+     */
+    public int literalLength() {
+        return literalLength;
+    }
+
+    /**
+     * out 에 렌더링. 값이 없는 슬롯이 있으면 IllegalArgumentException
+     */
+    public void render(Map<String, ?> values, StringBuilder out) {
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]);
+            Object value = values.get(slots[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing variable '" + slots[i] + "' for template " + name);
+            }
+            appendValue(value.toString(), out);
+        }
+        out.append(literals[slots.length]);
+    }
+
+    public String render(Map<String, ?> values) {
+        StringBuilder out = new StringBuilder(literalLength + 16 * slots.length);
+        render(values, out);
+        return out.toString();
+    }
+
+    private void appendValue(String value, StringBuilder out) {
+        if (escaping == Escaping.NONE) {
+            out.append(value);
+            return;
+        }
+
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String replacement = switch (value.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement != null) {
+                out.append(value, start, i).append(replacement);
+                start = i + 1;
+            }
+        }
+        out.append(value, start, value.length());
+    }
+
+}
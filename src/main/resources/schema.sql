@@ -105,3 +105,77 @@ CREATE TABLE IF NOT EXISTS email_log (
     sent_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE SET NULL
 );
+
+-- Kakao send rate windows (cluster-wide token lease per sender key)
+CREATE TABLE IF NOT EXISTS send_rate_window (
+    sender_key VARCHAR(100) NOT NULL,
+    window_start BIGINT NOT NULL,
+    used INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (sender_key, window_start)
+);
+
+-- Notification outbox (written in the caller's transaction, drained by OutboxRelay)
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    message_type VARCHAR(20) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Per-row relay retries (columns added after the table was first created)
+ALTER TABLE notification_outbox ADD COLUMN IF NOT EXISTS status VARCHAR(10) NOT NULL DEFAULT 'PENDING';
+ALTER TABLE notification_outbox ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE notification_outbox ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE notification_outbox ADD COLUMN IF NOT EXISTS last_error TEXT;
+
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_pending ON notification_outbox (id) WHERE status = 'PENDING';
+
+-- Durable message queue (messaging.transport=jdbc)
+CREATE TABLE IF NOT EXISTS message_queue (
+    id BIGSERIAL PRIMARY KEY,
+    message_type VARCHAR(20) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'READY',
+    attempts INT NOT NULL DEFAULT 0,
+    visible_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_message_queue_ready ON message_queue (message_type, visible_at, id) WHERE status = 'READY';
+
+-- Keyset paging of users by status (email campaigns)
+CREATE INDEX IF NOT EXISTS idx_users_status_id ON users (status, id);
+
+-- Scheduled notifications (rows due within the horizon are paged into an in-memory timing wheel)
+CREATE TABLE IF NOT EXISTS scheduled_notification (
+    id BIGSERIAL PRIMARY KEY,
+    message_type VARCHAR(20) NOT NULL,
+    payload TEXT NOT NULL,
+    deliver_at TIMESTAMP NOT NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING',
+    loaded_by VARCHAR(64),
+    loaded_at TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_scheduled_notification_due ON scheduled_notification (deliver_at) WHERE status IN ('PENDING', 'LOADED');
+
+-- Keyset paging of the user listing by (created_at DESC, id DESC)
+-- Backfill and SET NOT NULL only while the column is still nullable (avoids a table scan and lock on every boot).
+-- The DO body is single-quoted because spring.sql.init splits on ';' and does not understand $$ quoting.
+DO '
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = ''users''
+                 AND column_name = ''created_at'' AND is_nullable = ''YES'') THEN
+        UPDATE users SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+        ALTER TABLE users ALTER COLUMN created_at SET NOT NULL;
+    END IF;
+END
+';
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users (created_at DESC, id DESC);
@@ -0,0 +1,217 @@
+package com.example.api.load;
+
+import com.example.api.ApiApplication;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 모드 부하 테스트 (플랫폼 스레드 vs 가상 스레드)
+ * - Solapi 를 PROVIDER_LATENCY 만큼 지연 응답하는 로컬 스텁으로 대체하고
+ *   동기 알림톡 엔드포인트(.block())에 같은 동시성으로 요청을 보내 처리량/지연을 비교
+ * - 동시성이 Tomcat 스레드 수(200)보다 크므로 플랫폼 모드는 스레드 풀에서 대기한다.
+ * DB 등 외부 설정은 contextLoads 와 같은 환경(.env)을 사용한다.
+ *
+ * ./gradlew loadTest
+ */
+@Tag("load")
+class ExecutionModeLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionModeLoadTest.class);
+
+    private static final Duration PROVIDER_LATENCY = Duration.ofMillis(300);
+    private static final int TOMCAT_THREADS = 200;
+    private static final int CONCURRENCY = 400;
+    private static final int REQUESTS_PER_CLIENT = 5;
+
+    private static final String BODY = """
+            {"recipient":"01012345678","messageType":"ALIMTALK","templateCode":"ORDER_001",
+             "content":"load test","variables":{"orderNumber":"A-1","productName":"item","amount":"1000"}}
+            """;
+
+    private static HttpServer provider;
+    private static ExecutorService providerExecutor;
+
+    @BeforeAll
+    static void startProvider() throws Exception {
+        byte[] response = "{\"groupId\":\"G-LOAD\",\"requestId\":\"R-LOAD\",\"statusCode\":\"2000\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        providerExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        provider = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        provider.setExecutor(providerExecutor);
+        provider.createContext("/", exchange -> {
+            try (exchange) {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(PROVIDER_LATENCY);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        provider.start();
+    }
+
+    @AfterAll
+    static void stopProvider() {
+        provider.stop(0);
+        providerExecutor.shutdownNow();
+    }
+
+    @Test
+    void virtualThreadsSustainMoreConcurrentBlockingRequests() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        for (Result result : List.of(platform, virtual)) {
+            log.info("{} - req/s: {}, p50: {}ms, p99: {}ms, errors: {}", result.mode(),
+                    String.format("%.1f", result.throughput()), result.p50Millis(), result.p99Millis(),
+                    result.errors());
+        }
+
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+        // 플랫폼 모드 상한은 TOMCAT_THREADS / PROVIDER_LATENCY, 가상 스레드 모드는 CONCURRENCY / PROVIDER_LATENCY
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput() * 1.3);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                ApiApplication.class, LoadTestSecurityConfig.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "kakao.bizmessage.base-url=http://127.0.0.1:" + provider.getAddress().getPort(),
+                        "kakao.bizmessage.pool.max-connections=" + CONCURRENCY * 2,
+                        "kakao.rate-limit.mode=local",
+                        "kakao.rate-limit.permits-per-second=1000000",
+                        "kakao.rate-limit.burst=1000000",
+                        "resilience4j.bulkhead.instances.alimtalk.max-concurrent-calls=" + CONCURRENCY * 2,
+                        "admission.enabled=false")
+                .run()) {
+
+            URI uri = URI.create("http://127.0.0.1:"
+                    + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/notifications/kakao/alimtalk");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            // 커넥션 풀, JIT 워밍업
+            load(client, uri, CONCURRENCY, 1);
+            return load(client, uri, CONCURRENCY, REQUESTS_PER_CLIENT)
+                    .withMode(virtualThreads ? "virtual" : "platform");
+        }
+    }
+
+    private Result load(HttpClient client, URI uri, int clients, int requestsPerClient) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build();
+
+        AtomicInteger errors = new AtomicInteger();
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    for (int n = 0; n < requestsPerClient; n++) {
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[n] = System.nanoTime() - begin;
+                    }
+                    return latencies;
+                }));
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        long[] latencies = new long[clients * requestsPerClient];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] values = future.get();
+            System.arraycopy(values, 0, latencies, offset, values.length);
+            offset += values.length;
+        }
+        Arrays.sort(latencies);
+
+        return new Result(null, latencies.length * 1e9 / elapsed,
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99), errors.get());
+    }
+
+    private static long percentileMillis(long[] sorted, double percentile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return Duration.ofNanos(sorted[Math.max(index, 0)]).toMillis();
+    }
+
+    private record Result(String mode, double throughput, long p50Millis, long p99Millis, int errors) {
+
+        Result withMode(String mode) {
+            return new Result(mode, throughput, p50Millis, p99Millis, errors);
+        }
+    }
+
+    /**
+     * 부하 테스트 대상 엔드포인트만 인증 없이 호출
+     */
+    @TestConfiguration
+    static class LoadTestSecurityConfig {
+
+        @Bean
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        SecurityFilterChain loadTestFilterChain(HttpSecurity http) throws Exception {
+            return http
+                    .securityMatcher("/api/notifications/**")
+                    .csrf(AbstractHttpConfigurer::disable)
+                    .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                    .build();
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.example.api.messaging.local;
+
+import com.example.api.messaging.consumer.QueuedMessageHandler;
+import com.example.api.messaging.dto.MessageType;
+import com.example.api.messaging.retry.FailureClassifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LocalMessageDispatcherTest {
+
+    private static final int CAPACITY = 8;
+    private static final String POISON = "poison";
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final IdleWorkers idleWorkers = new IdleWorkers();
+    private final QueuedMessageHandler handler = mock(QueuedMessageHandler.class);
+    private final Queue<Object> handled = new ConcurrentLinkedQueue<>();
+
+    private MappedJournal journal;
+    private LocalMessagePublisher publisher;
+    private LocalMessageDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        journal = new MappedJournal(directory.resolve("journal.dat"), CAPACITY, 256);
+        publisher = new LocalMessagePublisher(journal, idleWorkers, objectMapper);
+        dispatcher = new LocalMessageDispatcher(journal, idleWorkers, handler, new FailureClassifier(), objectMapper);
+        ReflectionTestUtils.setField(dispatcher, "workerCount", 2);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 5);
+        ReflectionTestUtils.setField(dispatcher, "retryDelay", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(dispatcher, "idleTimeout", Duration.ofMillis(50));
+
+        doAnswer(invocation -> {
+            Object payload = invocation.getArgument(1);
+            if (POISON.equals(payload)) {
+                throw new IllegalStateException("provider unavailable");
+            }
+            handled.add(payload);
+            return null;
+        }).when(handler).handle(any(), any());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        dispatcher.stop();
+        journal.close();
+    }
+
+    @Test
+    void messageWaitingForRetryDoesNotBlockTheRingAfterWrapAround() throws Exception {
+        dispatcher.start();
+        publisher.sendNotificationMessage(POISON).join();
+
+        // 재시도 대기 중인 메시지가 슬롯을 쥐고 있으면 한 바퀴 뒤부터 발행이 계속 실패한다
+        int messages = CAPACITY * 4;
+        for (int i = 0; i < messages; i++) {
+            sendWithin("m-" + i, Duration.ofSeconds(5));
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (handled.size() < messages && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(handled).hasSize(messages);
+        verify(handler, times(1)).handle(eq(MessageType.NOTIFICATION), eq(POISON));
+    }
+
+    @Test
+    void pendingRetryIsRecoveredWithItsAttemptsAndNotBefore() throws Exception {
+        dispatcher.start();
+        publisher.sendNotificationMessage(POISON).join();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (mockingDetails(handler).getInvocations().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        dispatcher.stop();
+        journal.close();
+
+        journal = new MappedJournal(directory.resolve("journal.dat"), CAPACITY, 256);
+        long position = journal.claim();
+        assertThat(position).isNotNegative();
+        assertThat(journal.attempts(position)).isEqualTo(1);
+        assertThat(journal.notBefore(position)).isGreaterThan(System.currentTimeMillis());
+        assertThat(objectMapper.readValue(journal.payload(position), String.class)).isEqualTo(POISON);
+    }
+
+    private void sendWithin(String message, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (publisher.sendNotificationMessage(message).isCompletedExceptionally()) {
+            assertThat(System.nanoTime()).as("journal stayed full while publishing %s", message).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.example.api.messaging.local;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedJournalTest {
+
+    private static final MappedJournal.PayloadWriter<String> WRITER =
+            (value, out) -> out.write(value.getBytes(StandardCharsets.UTF_8));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void unreleasedMessagesAreRecoveredInOrderAfterReopen() throws IOException {
+        Path file = directory.resolve("journal.dat");
+        try (MappedJournal journal = new MappedJournal(file, 8, 256)) {
+            journal.append(1, 0, "a", WRITER);
+            journal.append(1, 0, "b", WRITER);
+            journal.append(2, 0, "c", WRITER);
+
+            journal.release(journal.claim());
+            long inProgress = journal.claim();
+            journal.attempts(inProgress, 3);
+        }
+
+        try (MappedJournal journal = new MappedJournal(file, 8, 256)) {
+            assertThat(journal.size()).isEqualTo(2);
+
+            long first = journal.claim();
+            assertThat(payload(journal, first)).isEqualTo("b");
+            assertThat(journal.attempts(first)).isEqualTo(3);
+
+            long second = journal.claim();
+            assertThat(payload(journal, second)).isEqualTo("c");
+            assertThat(journal.type(second)).isEqualTo(2);
+
+            assertThat(journal.claim()).isNegative();
+        }
+    }
+
+    @Test
+    void notBeforeSurvivesReopen() throws IOException {
+        Path file = directory.resolve("journal.dat");
+        long notBefore = System.currentTimeMillis() + 60_000;
+        try (MappedJournal journal = new MappedJournal(file, 8, 256)) {
+            journal.append(1, 2, notBefore, "retry", WRITER);
+            journal.append(1, 0, "fresh", WRITER);
+        }
+
+        try (MappedJournal journal = new MappedJournal(file, 8, 256)) {
+            long retry = journal.claim();
+            assertThat(payload(journal, retry)).isEqualTo("retry");
+            assertThat(journal.notBefore(retry)).isEqualTo(notBefore);
+            assertThat(journal.attempts(retry)).isEqualTo(2);
+            assertThat(journal.notBefore(journal.claim())).isZero();
+        }
+    }
+
+    @Test
+    void releasedSlotsAreReusedAfterWrapAround() throws IOException {
+        try (MappedJournal journal = new MappedJournal(directory.resolve("journal.dat"), 4, 64)) {
+            for (int i = 0; i < 4; i++) {
+                assertThat(journal.append(1, 0, "m" + i, WRITER)).isEqualTo(i);
+            }
+            assertThat(journal.append(1, 0, "full", WRITER)).isNegative();
+
+            journal.release(journal.claim());
+
+            assertThat(journal.append(1, 0, "m4", WRITER)).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void requeueMovesMessageBehindPendingOnes() throws IOException {
+        try (MappedJournal journal = new MappedJournal(directory.resolve("journal.dat"), 4, 64)) {
+            journal.append(1, 2, System.currentTimeMillis() + 60_000, "retry", WRITER);
+            journal.append(1, 0, "fresh", WRITER);
+
+            long retry = journal.claim();
+            assertThat(journal.requeue(retry)).isEqualTo(2);
+
+            assertThat(payload(journal, journal.claim())).isEqualTo("fresh");
+            long requeued = journal.claim();
+            assertThat(payload(journal, requeued)).isEqualTo("retry");
+            assertThat(journal.attempts(requeued)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void requeueRepublishesInPlaceWhenOwnSlotIsTheNextWritePosition() throws IOException {
+        try (MappedJournal journal = new MappedJournal(directory.resolve("journal.dat"), 4, 64)) {
+            journal.append(1, 0, "retry", WRITER);
+            long retry = journal.claim();
+            for (int i = 1; i < 4; i++) {
+                journal.append(1, 0, "m" + i, WRITER);
+                journal.release(journal.claim());
+            }
+            // 다음 기록 위치(4)가 쥐고 있는 슬롯(0)이라 복사할 빈 슬롯이 없음
+            assertThat(journal.append(1, 0, "blocked", WRITER)).isNegative();
+
+            assertThat(journal.requeue(retry)).isEqualTo(4);
+
+            long requeued = journal.claim();
+            assertThat(requeued).isEqualTo(4);
+            assertThat(payload(journal, requeued)).isEqualTo("retry");
+        }
+    }
+
+    @Test
+    void unknownLayoutIsRejected() throws IOException {
+        Path file = directory.resolve("journal.dat");
+        writeHeader(file, 0);
+
+        assertThatThrownBy(() -> new MappedJournal(file, 8, 256))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unsupported journal layout 0");
+    }
+
+    private static String payload(MappedJournal journal, long position) {
+        return new String(journal.payload(position), StandardCharsets.UTF_8);
+    }
+
+    private static void writeHeader(Path file, int layout) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, 64 + 4 * 64);
+            buffer.order(ByteOrder.nativeOrder());
+            buffer.putInt(0, 0x4a524e4c);
+            buffer.putInt(4, 4);
+            buffer.putInt(8, 64);
+            buffer.putInt(12, layout);
+            buffer.force();
+        }
+    }
+
+}
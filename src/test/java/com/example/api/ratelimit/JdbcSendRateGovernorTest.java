@@ -0,0 +1,88 @@
+package com.example.api.ratelimit;
+
+import com.example.api.mapper.SendRateMapper;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcSendRateGovernorTest {
+
+    private static final int PERMITS_PER_SECOND = 50;
+
+    private final InMemorySendRateMapper mapper = new InMemorySendRateMapper();
+
+    @Test
+    void acquisitionAboveWindowQuotaIsSpreadOverWindows() {
+        JdbcSendRateGovernor governor = new JdbcSendRateGovernor(mapper, PERMITS_PER_SECOND, 10, Duration.ofSeconds(2));
+
+        // 예전에는 permits-per-second 를 넘는 요청이 deadline 까지 기다린 뒤 실패
+        StepVerifier.create(governor.acquire("pf-1", 120))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(mapper.windows()).hasSizeGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void partialGrantIsUsedInsteadOfDiscarded() throws InterruptedException {
+        JdbcSendRateGovernor governor = new JdbcSendRateGovernor(mapper, PERMITS_PER_SECOND, 1, Duration.ofSeconds(2));
+        long window = currentWindowWithHeadroom();
+        mapper.lease("pf-1", window, 45);
+
+        StepVerifier.create(governor.acquire("pf-1", 10))
+                .expectComplete()
+                .verify(Duration.ofSeconds(3));
+
+        // 현재 윈도우에서 받은 5개를 이 요청에 썼으므로 다음 윈도우에서는 나머지 5개만 임대
+        assertThat(mapper.windows()).containsEntry(window, 55).containsEntry(window + 1, 5);
+    }
+
+    @Test
+    void failsOnlyWhenNoQuotaIsGrantedWithinMaxWait() throws InterruptedException {
+        JdbcSendRateGovernor governor = new JdbcSendRateGovernor(mapper, PERMITS_PER_SECOND, 10, Duration.ofMillis(1));
+        mapper.lease("pf-1", currentWindowWithHeadroom(), PERMITS_PER_SECOND);
+
+        StepVerifier.create(governor.acquire("pf-1", 1))
+                .expectError(SendRateExceededException.class)
+                .verify(Duration.ofSeconds(1));
+    }
+
+    /**
+     * 테스트 도중 윈도우가 바뀌지 않도록 윈도우 끝 부분이면 다음 윈도우까지 기다린 뒤 현재 윈도우를 반환
+     */
+    private static long currentWindowWithHeadroom() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        if (now % 1000 > 800) {
+            Thread.sleep(1000 - now % 1000);
+        }
+        return System.currentTimeMillis() / 1000;
+    }
+
+    /**
+     * send_rate_window UPSERT 와 같은 동작 (증가 후 사용량 반환)
+     */
+    private static class InMemorySendRateMapper implements SendRateMapper {
+
+        private final Map<Long, Integer> used = new ConcurrentHashMap<>();
+
+        @Override
+        public int lease(String senderKey, long windowStart, int requested) {
+            return used.merge(windowStart, requested, Integer::sum);
+        }
+
+        @Override
+        public int deleteBefore(long windowStart) {
+            return 0;
+        }
+
+        Map<Long, Integer> windows() {
+            return used;
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.example.api.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+class LocalSendRateGovernorTest {
+
+    @Test
+    void acquisitionAboveBurstIsPacedInsteadOfRefused() {
+        // 1000/s, burst 10, max-wait 50ms: 예전에는 burst + rate x max-wait = 60 을 넘는 요청이 즉시 실패
+        LocalSendRateGovernor governor = new LocalSendRateGovernor(1000, 10, Duration.ofMillis(50));
+
+        StepVerifier.create(governor.acquire("pf-1", 200))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(150))
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void acquisitionWithinBurstCompletesImmediately() {
+        LocalSendRateGovernor governor = new LocalSendRateGovernor(50, 50, Duration.ofSeconds(2));
+
+        StepVerifier.create(governor.acquire("pf-1", 50))
+                .expectComplete()
+                .verify(Duration.ofMillis(100));
+    }
+
+    @Test
+    void sliceThatCannotBeReservedWithinMaxWaitFails() {
+        LocalSendRateGovernor governor = new LocalSendRateGovernor(10, 10, Duration.ofMillis(100));
+        governor.acquire("pf-1", 10).block();
+
+        StepVerifier.create(governor.acquire("pf-1", 10))
+                .expectError(SendRateExceededException.class)
+                .verify(Duration.ofSeconds(1));
+    }
+
+}
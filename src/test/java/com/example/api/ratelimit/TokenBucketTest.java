@@ -0,0 +1,52 @@
+package com.example.api.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    private static final long MAX_WAIT = TimeUnit.SECONDS.toNanos(2);
+
+    @Test
+    void burstIsAvailableImmediately() {
+        TokenBucket bucket = new TokenBucket(50, 50);
+
+        assertThat(bucket.reserve(50, MAX_WAIT)).isZero();
+    }
+
+    @Test
+    void burstSizedReservationsArePacedAtTheConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(50, 50);
+
+        // 500 permits = burst 50 x 10, 첫 조각은 즉시, 이후 조각은 1초씩 뒤로 밀린다
+        long lastWait = 0;
+        for (int i = 0; i < 10; i++) {
+            lastWait = bucket.reserve(50, Long.MAX_VALUE);
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(lastWait)).isBetween(8_900L, 9_000L);
+    }
+
+    @Test
+    void reservationAboveBurstMustBeSplitByTheCaller() {
+        TokenBucket bucket = new TokenBucket(50, 50);
+
+        assertThatThrownBy(() -> bucket.reserve(500, MAX_WAIT))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void refusedReservationDoesNotConsumeTokens() {
+        TokenBucket bucket = new TokenBucket(50, 50);
+        bucket.reserve(50, MAX_WAIT);
+        bucket.reserve(50, MAX_WAIT);
+
+        assertThat(bucket.reserve(50, TimeUnit.MILLISECONDS.toNanos(100))).isNegative();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(bucket.reserve(50, MAX_WAIT))).isBetween(1_900L, 2_000L);
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.example.api.service;
+
+import com.example.api.service.MultiChannelDispatcher.Channel;
+import com.example.api.service.MultiChannelDispatcher.ChannelResult;
+import com.example.api.service.MultiChannelDispatcher.Notification;
+import com.example.api.service.MultiChannelDispatcher.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class MultiChannelDispatcherTest {
+
+    private final EmailService emailService = mock(EmailService.class);
+    private final KakaoService kakaoService = mock(KakaoService.class);
+    private final MultiChannelDispatcher dispatcher = new MultiChannelDispatcher(
+            emailService, kakaoService, Duration.ofSeconds(5), "ALIMTALK:EMAIL");
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void skippedPrimaryFallsBack() {
+        Notification notification = new Notification("user@example.com", null, "name", "subject", "content");
+
+        List<ChannelResult> results = dispatcher.dispatch(notification, Set.of(Channel.ALIMTALK),
+                dispatcher.getDefaultFallbacks());
+
+        assertThat(results).extracting(ChannelResult::channel, ChannelResult::status, ChannelResult::fallback)
+                .containsExactly(
+                        tuple(Channel.ALIMTALK, Status.SKIPPED, false),
+                        tuple(Channel.EMAIL, Status.SENT, true));
+        verify(emailService).sendEmail("user@example.com", "subject", "content");
+    }
+
+    @Test
+    void failedPrimaryFallsBack() {
+        doThrow(new IllegalStateException("provider down"))
+                .when(kakaoService).sendAlimtalk(anyString(), anyString(), anyMap(), any());
+        Notification notification = new Notification("user@example.com", "01012345678", "name", "subject", "content");
+
+        List<ChannelResult> results = dispatcher.dispatch(notification, Set.of(Channel.ALIMTALK),
+                dispatcher.getDefaultFallbacks());
+
+        assertThat(results).extracting(ChannelResult::status).containsExactly(Status.FAILED, Status.SENT);
+    }
+
+    @Test
+    void noFallbackWithoutRule() {
+        Notification notification = new Notification("user@example.com", null, "name", "subject", "content");
+
+        List<ChannelResult> results = dispatcher.dispatch(notification, Set.of(Channel.ALIMTALK), Map.of());
+
+        assertThat(results).extracting(ChannelResult::status).containsExactly(Status.SKIPPED);
+        verify(emailService, never()).sendEmail(anyString(), anyString(), anyString());
+    }
+
+}